@@ -0,0 +1,200 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-model load driver used by load-test.sh. Logs in a pool of seeded users,
+ * then starts requests at a fixed target rate regardless of how fast earlier
+ * ones complete, each on its own virtual thread. Latency is measured from the
+ * moment a request was scheduled, so a backed-up server shows up as latency
+ * instead of silently lowering the offered load.
+ *
+ * Traffic mix: 40% GET /api/profile/me, 35% POST /api/activity/log,
+ * 10% POST /auth/login, 10% PUT /users/profile, 5% POST /auth/register.
+ *
+ * Usage: java LoadTest.java <baseUrl> <seededUsers> <requestsPerSecond> <seconds> [report.json]
+ */
+public class LoadTest {
+
+    private static final Pattern TOKEN = Pattern.compile("\"access_token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final int TOKEN_POOL = 100;
+    private static final String[] GOALS = { "Full Stack Developer", "Data Scientist", "DevOps Engineer" };
+
+    record Result(int count, int errors, double throughput, double p50, double p95, double p99, double max) {}
+
+    public static void main(String[] args) throws Exception {
+        String base = args[0];
+        int seeded = Integer.parseInt(args[1]);
+        int rate = Integer.parseInt(args[2]);
+        int seconds = Integer.parseInt(args[3]);
+        Path report = args.length > 4 ? Path.of(args[4]) : null;
+
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        int pool = Math.min(seeded, TOKEN_POOL);
+        List<String> tokens = loginPool(http, base, pool);
+        System.out.printf("Logged in %d seeded users, offering %d req/s for %ds%n", tokens.size(), rate, seconds);
+
+        Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>(); // "endpoint status" -> count
+        AtomicInteger registered = new AtomicInteger();
+        String run = Long.toString(System.currentTimeMillis(), 36);
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long total = (long) rate * seconds;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long scheduled = start + i * intervalNanos;
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+                executor.submit(() -> {
+                    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                    int pick = rnd.nextInt(100);
+                    String token = tokens.get(rnd.nextInt(tokens.size()));
+                    String name;
+                    HttpRequest req;
+                    if (pick < 40) {
+                        name = "GET /api/profile/me";
+                        req = get(base + "/api/profile/me", token);
+                    } else if (pick < 75) {
+                        name = "POST /api/activity/log";
+                        req = post(base + "/api/activity/log", "{\"type\":\"LAB\",\"title\":\"load\",\"xp\":" + (10 + rnd.nextInt(90)) +
+                                ",\"skillTag\":\"python\",\"durationMinutes\":" + (5 + rnd.nextInt(55)) + "}", token);
+                    } else if (pick < 85) {
+                        name = "POST /auth/login";
+                        req = post(base + "/auth/login", "{\"email\":\"load-" + rnd.nextInt(seeded) + "@example.com\",\"password\":\"loadtest\"}", null);
+                    } else if (pick < 95) {
+                        name = "PUT /users/profile";
+                        req = put(base + "/users/profile", "{\"bio\":\"Updated during load test " + rnd.nextInt(1000) +
+                                "\",\"careerGoal\":\"" + GOALS[rnd.nextInt(GOALS.length)] + "\"}", token);
+                    } else {
+                        name = "POST /auth/register";
+                        String email = "load-new-" + run + "-" + registered.incrementAndGet() + "@example.com";
+                        req = post(base + "/auth/register", "{\"email\":\"" + email + "\",\"password\":\"loadtest\",\"full_name\":\"New\"}", null);
+                    }
+                    String failure;
+                    try {
+                        int status = http.send(req, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        failure = status < 400 ? null : Integer.toString(status);
+                    } catch (Exception e) {
+                        failure = e.getClass().getSimpleName();
+                    }
+                    latencies.computeIfAbsent(name, k -> new ConcurrentLinkedQueue<>()).add((System.nanoTime() - scheduled) / 1000);
+                    if (failure != null) errors.computeIfAbsent(name + " " + failure, k -> new LongAdder()).increment();
+                });
+            }
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        Map<String, Result> results = new TreeMap<>();
+        latencies.forEach((name, values) -> {
+            long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+            int e = errors.entrySet().stream().filter(x -> x.getKey().startsWith(name + " "))
+                    .mapToInt(x -> x.getValue().intValue()).sum();
+            results.put(name, new Result(sorted.length, e, sorted.length / elapsed,
+                    pct(sorted, 50), pct(sorted, 95), pct(sorted, 99), sorted[sorted.length - 1] / 1000.0));
+        });
+
+        System.out.printf("%-26s %8s %7s %9s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        int count = 0, errorCount = 0;
+        for (Map.Entry<String, Result> e : results.entrySet()) {
+            Result r = e.getValue();
+            count += r.count();
+            errorCount += r.errors();
+            System.out.printf("%-26s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", e.getKey(), r.count(), r.errors(),
+                    r.throughput(), r.p50(), r.p95(), r.p99(), r.max());
+        }
+        System.out.printf("%-26s %8d %7d %9.1f   (offered %d req/s)%n", "TOTAL", count, errorCount, count / elapsed, rate);
+        new TreeMap<>(errors).forEach((key, n) -> System.out.printf("  error %-36s %d%n", key, n.intValue()));
+
+        if (report != null) {
+            writeReport(report, seeded, rate, seconds, results);
+            System.out.println("Report written to " + report);
+        }
+    }
+
+    private static List<String> loginPool(HttpClient http, String base, int pool) throws InterruptedException {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < pool; i++) {
+            String body = "{\"email\":\"load-" + i + "@example.com\",\"password\":\"loadtest\"}";
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    HttpResponse<String> res = http.send(post(base + "/auth/login", body, null), HttpResponse.BodyHandlers.ofString());
+                    Matcher m = TOKEN.matcher(res.body());
+                    if (m.find()) {
+                        tokens.add(m.group(1));
+                        break;
+                    }
+                    if (attempt == 5) throw new IllegalStateException("Login failed for seeded user " + i + ": " + res.body());
+                } catch (IOException e) {
+                    if (attempt == 5) throw new UncheckedIOException(e);
+                }
+                Thread.sleep(200);
+            }
+        }
+        return tokens;
+    }
+
+    private static void writeReport(Path path, int seeded, int rate, int seconds, Map<String, Result> results) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append(String.format(Locale.ROOT, "{\"seededUsers\":%d,\"offeredRate\":%d,\"seconds\":%d,\"endpoints\":{", seeded, rate, seconds));
+        int i = 0;
+        for (Map.Entry<String, Result> e : results.entrySet()) {
+            Result r = e.getValue();
+            if (i++ > 0) json.append(',');
+            json.append(String.format(Locale.ROOT,
+                    "\"%s\":{\"count\":%d,\"errors\":%d,\"throughput\":%.2f,\"p50\":%.2f,\"p95\":%.2f,\"p99\":%.2f,\"max\":%.2f}",
+                    e.getKey(), r.count(), r.errors(), r.throughput(), r.p50(), r.p95(), r.p99(), r.max()));
+        }
+        json.append("}}\n");
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.writeString(path, json);
+    }
+
+    private static double pct(long[] sorted, int p) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))] / 1000.0;
+    }
+
+    private static HttpRequest post(String url, String body, String token) {
+        return json(HttpRequest.newBuilder(URI.create(url)).POST(HttpRequest.BodyPublishers.ofString(body)), token);
+    }
+
+    private static HttpRequest put(String url, String body, String token) {
+        return json(HttpRequest.newBuilder(URI.create(url)).PUT(HttpRequest.BodyPublishers.ofString(body)), token);
+    }
+
+    private static HttpRequest json(HttpRequest.Builder b, String token) {
+        b.header("Content-Type", "application/json").timeout(Duration.ofSeconds(30));
+        if (token != null) b.header("Authorization", "Bearer " + token);
+        return b.build();
+    }
+
+    private static HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url)).header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30)).GET().build();
+    }
+}
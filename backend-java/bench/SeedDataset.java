@@ -0,0 +1,163 @@
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills a freshly created SkillPath database with a synthetic dataset using
+ * JDBC batch inserts: users (all with password "loadtest"), profiles, skills,
+ * badges and activity logs. Derived tables (aggregates, rollups, skill
+ * scores, readiness) are left empty on purpose; the backend rebuilds them on
+ * its next start, which is part of what load-test.sh measures.
+ *
+ * Usage: java -cp <runtime classpath> SeedDataset.java <jdbcUrl> <users> <logsPerUser>
+ */
+public class SeedDataset {
+
+    private static final int BATCH = 1000;
+    private static final String[] SKILLS = {
+            "JavaScript", "React", "Node.js", "SQL", "Python", "Docker", "Linux",
+            "Networking", "Machine Learning", "System Design", "Communication", "Problem Solving"
+    };
+    private static final String[] GOALS = {
+            "Full Stack Developer", "Data Scientist", "Cyber Security Analyst", "DevOps Engineer", "Software Engineer"
+    };
+    private static final String[] TYPES = { "COURSE", "LAB", "QUIZ", "PROJECT" };
+    private static final String[] BADGES = { "First Steps", "Lab Rat", "On Fire", "Quiz Master", "Builder" };
+
+    public static void main(String[] args) throws Exception {
+        String url = args[0];
+        int users = Integer.parseInt(args[1]);
+        int logsPerUser = Integer.parseInt(args[2]);
+        Random rnd = new Random(42);
+        String hash = new BCryptPasswordEncoder(10).encode("loadtest");
+        LocalDateTime now = LocalDateTime.now();
+        long started = System.nanoTime();
+
+        try (Connection c = DriverManager.getConnection(url, "sa", "password")) {
+            c.setAutoCommit(false);
+
+            // XP is summed from the generated logs so users.xp matches activity_logs
+            long[] xpByUser = new long[users];
+            List<int[]> logPlan = new ArrayList<>();
+            for (int u = 0; u < users; u++) {
+                for (int l = 0; l < logsPerUser; l++) {
+                    int xp = 10 + rnd.nextInt(191);
+                    xpByUser[u] += xp;
+                    logPlan.add(new int[] { u, xp });
+                }
+            }
+
+            try (PreparedStatement ps = c.prepareStatement(
+                    "INSERT INTO users (email, password, full_name, xp, level, streak, join_date) VALUES (?, ?, ?, ?, ?, 0, ?)")) {
+                for (int u = 0; u < users; u++) {
+                    long xp = xpByUser[u];
+                    ps.setString(1, "load-" + u + "@example.com");
+                    ps.setString(2, hash);
+                    ps.setString(3, "Load User " + u);
+                    ps.setLong(4, xp);
+                    ps.setInt(5, (int) (xp / 1000 + 1));
+                    ps.setTimestamp(6, Timestamp.valueOf(now.minusDays(90 + rnd.nextInt(365))));
+                    add(ps, u);
+                }
+                ps.executeBatch();
+            }
+
+            long[] ids = new long[users];
+            try (Statement st = c.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT id FROM users WHERE email LIKE 'load-%' ORDER BY id")) {
+                for (int u = 0; rs.next(); u++) ids[u] = rs.getLong(1);
+            }
+
+            try (PreparedStatement profile = c.prepareStatement(
+                    "INSERT INTO profiles (user_id, career_goal, experience_level, bio) VALUES (?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+                 PreparedStatement tech = c.prepareStatement(
+                         "INSERT INTO profile_preferred_tech (profile_id, preferred_tech) VALUES (?, ?)")) {
+                for (int u = 0; u < users; u++) {
+                    profile.setLong(1, ids[u]);
+                    profile.setString(2, GOALS[rnd.nextInt(GOALS.length)]);
+                    profile.setString(3, rnd.nextBoolean() ? "Beginner" : "Intermediate");
+                    profile.setString(4, "Synthetic load-test user number " + u + ".");
+                    profile.executeUpdate();
+                    try (ResultSet key = profile.getGeneratedKeys()) {
+                        key.next();
+                        for (int t = 0; t < 3; t++) {
+                            tech.setLong(1, key.getLong(1));
+                            tech.setString(2, SKILLS[(u + t * 5) % SKILLS.length]);
+                            add(tech, u * 3 + t);
+                        }
+                    }
+                }
+                tech.executeBatch();
+            }
+
+            int rows = 0;
+            try (PreparedStatement ps = c.prepareStatement(
+                    "INSERT INTO user_skills (user_id, skill_name, category, score) VALUES (?, ?, 'Programming', 10)")) {
+                for (int u = 0; u < users; u++) {
+                    int count = 3 + rnd.nextInt(4);
+                    for (int s = 0; s < count; s++) {
+                        ps.setLong(1, ids[u]);
+                        ps.setString(2, SKILLS[(u + s * 5) % SKILLS.length]);
+                        add(ps, rows++);
+                    }
+                }
+                ps.executeBatch();
+            }
+
+            rows = 0;
+            try (PreparedStatement ps = c.prepareStatement(
+                    "INSERT INTO badges (user_id, name, description, icon, awarded_at) VALUES (?, ?, ?, 'Award', ?)")) {
+                for (int u = 0; u < users; u++) {
+                    int count = rnd.nextInt(4);
+                    for (int b = 0; b < count; b++) {
+                        ps.setLong(1, ids[u]);
+                        ps.setString(2, BADGES[b]);
+                        ps.setString(3, "Awarded for " + BADGES[b].toLowerCase());
+                        ps.setTimestamp(4, Timestamp.valueOf(now.minusDays(rnd.nextInt(60))));
+                        add(ps, rows++);
+                    }
+                }
+                ps.executeBatch();
+            }
+
+            rows = 0;
+            try (PreparedStatement ps = c.prepareStatement(
+                    "INSERT INTO activity_logs (user_id, activity_type, title, xp_earned, skill_tag, duration_minutes, timestamp) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                for (int[] log : logPlan) {
+                    String skill = SKILLS[rnd.nextInt(SKILLS.length)];
+                    ps.setLong(1, ids[log[0]]);
+                    ps.setString(2, TYPES[rnd.nextInt(TYPES.length)]);
+                    ps.setString(3, skill + " session");
+                    ps.setInt(4, log[1]);
+                    ps.setString(5, skill.toLowerCase());
+                    ps.setInt(6, 5 + rnd.nextInt(86));
+                    ps.setTimestamp(7, Timestamp.valueOf(now.minusMinutes(rnd.nextInt(90 * 24 * 60))));
+                    add(ps, rows++);
+                }
+                ps.executeBatch();
+            }
+            c.commit();
+        }
+        System.out.printf("Seeded %d users with %d activity logs each in %.1fs%n",
+                users, logsPerUser, (System.nanoTime() - started) / 1e9);
+    }
+
+    /** Adds the current row to the batch and flushes every BATCH rows. */
+    private static void add(PreparedStatement ps, int row) throws Exception {
+        ps.addBatch();
+        if ((row + 1) % BATCH == 0) {
+            ps.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load driver used by compare-thread-modes.sh. Registers a pool of
+ * users, then runs a fixed number of concurrent clients against a mix of
+ * BCrypt-bound (login) and JDBC-bound (history, heatmap, leaderboard) endpoints
+ * and prints throughput and latency percentiles per endpoint.
+ *
+ * Usage: java ThreadModeBenchmark.java <baseUrl> <clients> <seconds>
+ */
+public class ThreadModeBenchmark {
+
+    private static final Pattern TOKEN = Pattern.compile("\"access_token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final int USERS = 20;
+
+    public static void main(String[] args) throws Exception {
+        String base = args.length > 0 ? args[0] : "http://localhost:8000";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        List<String> emails = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String email = "bench-" + run + "-" + i + "@example.com";
+            String body = "{\"email\":\"" + email + "\",\"password\":\"bench\",\"full_name\":\"Bench " + i + "\"}";
+            String json = http.send(post(base + "/auth/register", body, null), HttpResponse.BodyHandlers.ofString()).body();
+            Matcher m = TOKEN.matcher(json);
+            if (!m.find()) throw new IllegalStateException("Register failed: " + json);
+            emails.add(email);
+            tokens.add(m.group(1));
+            http.send(post(base + "/api/activity/batch",
+                    "[{\"type\":\"LAB\",\"title\":\"warmup\",\"xp\":" + (10 * i + 10) + ",\"skillTag\":\"java\",\"durationMinutes\":30}]",
+                    m.group(1)), HttpResponse.BodyHandlers.discarding());
+        }
+
+        Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        CountDownLatch done = new CountDownLatch(clients);
+
+        for (int c = 0; c < clients; c++) {
+            Thread.ofPlatform().daemon().start(() -> {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                try {
+                    while (System.nanoTime() < deadline) {
+                        int u = rnd.nextInt(USERS);
+                        int pick = rnd.nextInt(100);
+                        String name;
+                        HttpRequest req;
+                        if (pick < 10) {
+                            name = "POST /auth/login";
+                            req = post(base + "/auth/login", "{\"email\":\"" + emails.get(u) + "\",\"password\":\"bench\"}", null);
+                        } else if (pick < 50) {
+                            name = "GET /api/activity";
+                            req = get(base + "/api/activity?limit=20", tokens.get(u));
+                        } else if (pick < 75) {
+                            name = "GET /api/activity/heatmap";
+                            req = get(base + "/api/activity/heatmap", tokens.get(u));
+                        } else {
+                            name = "GET /api/leaderboard/me";
+                            req = get(base + "/api/leaderboard/me", tokens.get(u));
+                        }
+                        long start = System.nanoTime();
+                        int status = http.send(req, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        long micros = (System.nanoTime() - start) / 1000;
+                        if (status >= 400) errors.incrementAndGet();
+                        latencies.computeIfAbsent(name, k -> new ConcurrentLinkedQueue<>()).add(micros);
+                    }
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+
+        long total = 0;
+        System.out.printf("%-28s %8s %9s %9s %9s %9s%n", "endpoint", "count", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        Map<String, ConcurrentLinkedQueue<Long>> sorted = new LinkedHashMap<>();
+        latencies.keySet().stream().sorted().forEach(k -> sorted.put(k, latencies.get(k)));
+        for (Map.Entry<String, ConcurrentLinkedQueue<Long>> e : sorted.entrySet()) {
+            long[] values = e.getValue().stream().mapToLong(Long::longValue).sorted().toArray();
+            total += values.length;
+            System.out.printf("%-28s %8d %9.1f %9.1f %9.1f %9.1f%n", e.getKey(), values.length,
+                    values.length / (double) seconds, pct(values, 50), pct(values, 95), pct(values, 99));
+        }
+        System.out.printf("%-28s %8d %9.1f   errors=%d%n", "TOTAL", total, total / (double) seconds, errors.get());
+    }
+
+    private static double pct(long[] sorted, int p) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))] / 1000.0;
+    }
+
+    private static HttpRequest post(String url, String body, String token) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) b.header("Authorization", "Bearer " + token);
+        return b.build();
+    }
+
+    private static HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url)).header("Authorization", "Bearer " + token).GET().build();
+    }
+}
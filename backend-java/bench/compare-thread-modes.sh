@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# Runs ThreadModeBenchmark against the backend twice, once on the Tomcat
+# platform thread pool and once with spring.threads.virtual.enabled=true.
+# The virtual run also records pinned-thread stack traces to target/pinning.log.
+#
+# Usage: bench/compare-thread-modes.sh [clients] [seconds] [tomcat-max-threads]
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+CLIENTS=${1:-64}
+SECONDS_PER_RUN=${2:-20}
+MAX_THREADS=${3:-32}
+PORT=18080
+
+mvn -B -q -DskipTests package
+JAR=$(ls target/*-exec.jar)
+
+run_mode() {
+  local virtual=$1 log=$2
+  java -Djdk.tracePinnedThreads=short -jar "$JAR" \
+    --server.port=$PORT \
+    --spring.datasource.url="jdbc:h2:mem:bench-$virtual" \
+    --media.storage-dir=target/bench-media \
+    --server.tomcat.threads.max="$MAX_THREADS" \
+    --spring.threads.virtual.enabled="$virtual" > "$log" 2>&1 &
+  local pid=$!
+  for _ in $(seq 1 60); do curl -s -o /dev/null "http://localhost:$PORT/" && break; sleep 1; done
+  echo "== spring.threads.virtual.enabled=$virtual (clients=$CLIENTS, tomcat max threads=$MAX_THREADS)"
+  java bench/ThreadModeBenchmark.java "http://localhost:$PORT" "$CLIENTS" "$SECONDS_PER_RUN"
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+}
+
+run_mode false target/bench-platform.log
+run_mode true target/bench-virtual.log
+# jdk.tracePinnedThreads marks the frame holding the monitor with "<== monitors:"
+grep -B12 -A2 'monitors:' target/bench-virtual.log > target/pinning.log || true
+echo "Pinned-thread frames: $(grep -c 'monitors:' target/pinning.log || true) (see target/pinning.log)"
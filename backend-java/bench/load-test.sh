@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+# End-to-end load test against a fresh H2 database:
+#   1. boots the backend once so Hibernate creates the schema, then stops it
+#   2. seeds USERS users with LOGS activity logs each (SeedDataset.java)
+#   3. boots again, which rebuilds the derived tables (timed from the log)
+#   4. drives RATE req/s of mixed traffic for SECONDS (LoadTest.java)
+# Per-endpoint results go to stdout and target/loadtest/report-<users>x<logs>.json,
+# so runs at different dataset sizes can be compared.
+#
+# Usage: bench/load-test.sh [users] [logs-per-user] [rate] [seconds]
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+USERS=${1:-1000}
+LOGS=${2:-50}
+RATE=${3:-50}
+SECONDS_TO_RUN=${4:-30}
+PORT=18081
+DIR=target/loadtest
+DB="jdbc:h2:file:$PWD/$DIR/db"
+
+mvn -B -q -DskipTests package
+mvn -B -q dependency:build-classpath -Dmdep.outputFile=$DIR/classpath.txt -Dmdep.includeScope=runtime
+JAR=$(ls target/*-exec.jar)
+rm -rf "$DIR/db"* "$DIR/media"
+
+PID=
+boot() {
+  java -jar "$JAR" \
+    --server.port=$PORT \
+    --management.server.port=$((PORT + 1)) \
+    --spring.datasource.url="$DB" \
+    --media.storage-dir="$DIR/media" \
+    --jobprep.catalog-file="$DIR/job-prep-catalog.json" \
+    --ratelimit.enabled=false > "$1" 2>&1 &
+  PID=$!
+  for _ in $(seq 1 300); do
+    curl -sf -o /dev/null "http://localhost:$PORT/readyz" && return 0
+    kill -0 "$PID" 2>/dev/null || { tail -20 "$1"; exit 1; }
+    sleep 1
+  done
+  echo "Backend did not start, see $1"; exit 1
+}
+
+stop() {
+  [ -n "$PID" ] || return 0
+  kill "$PID" 2>/dev/null || true; wait "$PID" 2>/dev/null || true
+  PID=
+}
+# Any failure (set -e, a timed-out boot, Ctrl-C) must not leave the backend holding the port
+trap stop EXIT
+
+boot "$DIR/schema.log"
+stop
+
+java -cp "$(cat $DIR/classpath.txt)" bench/SeedDataset.java "$DB" "$USERS" "$LOGS"
+
+boot "$DIR/backend.log"
+grep -o 'Started SkillPathApplication in [0-9.]* seconds' "$DIR/backend.log" || true
+java bench/LoadTest.java "http://localhost:$PORT" "$USERS" "$RATE" "$SECONDS_TO_RUN" "$DIR/report-${USERS}x${LOGS}.json"
+stop
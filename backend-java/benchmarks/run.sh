@@ -0,0 +1,24 @@
+#!/usr/bin/env bash
+# Builds the backend and the JMH benchmarks, runs them and writes
+# target/jmh-result.json. With a baseline file, the run fails when any
+# benchmark is more than MAX_REGRESSION percent (default 10) slower.
+#
+# Usage: benchmarks/run.sh [baseline.json] [-- extra JMH args, e.g. Jwt -f 2]
+set -euo pipefail
+cd "$(dirname "$0")"
+
+BASELINE=""
+if [[ $# -gt 0 && "$1" != "--" ]]; then
+  BASELINE=$1
+  shift
+fi
+[[ "${1:-}" == "--" ]] && shift
+
+mvn -B -q -f ../pom.xml -DskipTests install
+mvn -B -q package
+java -jar target/benchmarks.jar -rf json -rff target/jmh-result.json "$@"
+
+if [[ -n "$BASELINE" ]]; then
+  java -cp target/benchmarks.jar com.skillpath.bench.CompareResults \
+    "$BASELINE" target/jmh-result.json "${MAX_REGRESSION:-10}"
+fi
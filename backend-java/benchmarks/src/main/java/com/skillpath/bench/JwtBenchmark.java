@@ -0,0 +1,61 @@
+package com.skillpath.bench;
+
+import com.skillpath.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token signing and verification. {@code extractUsername} and
+ * {@code validateToken} go through the verified-token cache the way the
+ * request filter does; {@code parseUncached} is the full signature check a
+ * cache miss pays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+    private UserDetails userDetails;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        Stubs.setField(jwtUtil, "secret", "benchmark-secret-key-that-is-long-enough-for-hs256-signing");
+        Stubs.setField(jwtUtil, "expiration", 86_400_000L);
+        Stubs.setField(jwtUtil, "cacheMaxSize", 10_000L);
+        Stubs.invoke(jwtUtil, "init");
+        token = jwtUtil.generateToken(ProfileFixtures.EMAIL);
+        userDetails = new User(ProfileFixtures.EMAIL, "", List.of());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(ProfileFixtures.EMAIL);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, userDetails);
+    }
+
+    @Benchmark
+    public String parseUncached() {
+        return jwtUtil.extractClaim(token, Claims::getSubject);
+    }
+}
@@ -0,0 +1,187 @@
+package com.skillpath.bench;
+
+import com.skillpath.dto.ActivityLogDTO;
+import com.skillpath.dto.BadgeDTO;
+import com.skillpath.dto.FullProfileResponse;
+import com.skillpath.dto.UserSkillDTO;
+import com.skillpath.model.ActivityAggregate;
+import com.skillpath.model.ActivityLog;
+import com.skillpath.model.Badge;
+import com.skillpath.model.Profile;
+import com.skillpath.model.User;
+import com.skillpath.model.UserSkill;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A realistic, fully populated user: profile, ten recent activities, a dozen
+ * skills, a few badges and per-type aggregates. Picture sizes are chosen by
+ * the benchmarks, since legacy rows still carry inline base64 data URLs.
+ */
+final class ProfileFixtures {
+
+    static final String EMAIL = "bench@skillpath.dev";
+    private static final String[] SKILLS = {
+            "JavaScript", "React", "Node.js", "SQL", "System Design", "Communication",
+            "Python", "Docker", "Linux", "Problem Solving", "Networking", "Statistics"
+    };
+
+    private ProfileFixtures() {}
+
+    static User user(int pictureBytes) {
+        User user = new User();
+        user.setId(42L);
+        user.setEmail(EMAIL);
+        user.setFullName("Bench Mark");
+        user.setXp(12_345L);
+        user.setLevel(13);
+        user.setStreak(9);
+        user.setJoinDate(LocalDateTime.of(2024, 1, 15, 9, 30));
+        user.setProfilePictureUrl(pictureBytes > 0 ? dataUrl(pictureBytes) : null);
+
+        Profile profile = new Profile();
+        profile.setId(7L);
+        profile.setCareerGoal("Full Stack Developer");
+        profile.setExperienceLevel("Intermediate");
+        profile.setBio("Backend developer moving towards full stack, currently building a study planner in React.");
+        profile.setPreferredTech(List.of("JavaScript", "React", "SQL"));
+        user.setProfile(profile);
+        return user;
+    }
+
+    /** The response the profile endpoint sends for {@link #user(int)}, as the mapping code would build it. */
+    static FullProfileResponse response(int pictureBytes) {
+        User user = user(pictureBytes);
+
+        FullProfileResponse.UserDTO userDTO = new FullProfileResponse.UserDTO();
+        userDTO.setName(user.getFullName());
+        userDTO.setEmail(user.getEmail());
+        userDTO.setProfilePictureUrl(user.getProfilePictureUrl());
+        userDTO.setXp(user.getXp());
+        userDTO.setLevel(user.getLevel());
+        userDTO.setStreak(user.getStreak());
+        userDTO.setJoinDate(user.getJoinDate().toString());
+        FullProfileResponse.ProfileDTO profileDTO = new FullProfileResponse.ProfileDTO();
+        profileDTO.setBio(user.getProfile().getBio());
+        profileDTO.setCareerGoal(user.getProfile().getCareerGoal());
+        profileDTO.setExperienceLevel(user.getProfile().getExperienceLevel());
+        userDTO.setProfile(profileDTO);
+
+        FullProfileResponse.CareerReadinessDTO readiness = new FullProfileResponse.CareerReadinessDTO();
+        readiness.setScore(64);
+        readiness.setReadinessLevel("Moderate");
+        readiness.setTargetRole("Full Stack Developer");
+        readiness.setMissingSkills(List.of("Node.js", "SQL", "System Design"));
+
+        FullProfileResponse.StatsDTO stats = new FullProfileResponse.StatsDTO();
+        stats.setTotalLearningHours(42);
+        stats.setCoursesCompleted(10);
+        stats.setLabsCompleted(13);
+
+        FullProfileResponse response = new FullProfileResponse();
+        response.setUser(userDTO);
+        response.setSkills(skillViews());
+        response.setRecentActivity(activityViews());
+        response.setBadges(badgeViews());
+        response.setCareerReadiness(readiness);
+        response.setStats(stats);
+        return response;
+    }
+
+    /** Skills without the owning user set, the way a DTO-shaped payload would carry them. */
+    static List<UserSkill> skills() {
+        List<UserSkill> skills = new ArrayList<>();
+        for (int i = 0; i < SKILLS.length; i++) {
+            UserSkill s = new UserSkill();
+            s.setId((long) i + 1);
+            s.setSkillName(SKILLS[i]);
+            s.setCategory("Programming");
+            s.setScore(10 + (i * 37) % 90);
+            s.setEvidence(120.0 * i);
+            s.setEvidenceAt(LocalDateTime.of(2026, 10, 1, 12, 0).minusDays(i));
+            s.setScoreVersion(1);
+            skills.add(s);
+        }
+        return skills;
+    }
+
+    static List<ActivityLog> recentActivity() {
+        String[] types = { "COURSE", "LAB", "QUIZ", "PROJECT" };
+        List<ActivityLog> logs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ActivityLog log = new ActivityLog();
+            log.setId(1000L - i);
+            log.setActivityType(types[i % types.length]);
+            log.setTitle("Module " + (i + 1) + ": " + SKILLS[i] + " in practice");
+            log.setXpEarned(50 + 25 * (i % 4));
+            log.setSkillTag(SKILLS[i].toLowerCase());
+            log.setDurationMinutes(15 + 5 * i);
+            log.setTimestamp(LocalDateTime.of(2026, 10, 1, 12, 0).minusHours(6L * i));
+            logs.add(log);
+        }
+        return logs;
+    }
+
+    static List<Badge> badges() {
+        List<Badge> badges = new ArrayList<>();
+        String[][] data = { { "First Steps", "Completed a first course", "Footprints" },
+                { "Lab Rat", "Finished 10 labs", "FlaskConical" },
+                { "On Fire", "7 day streak", "Flame" } };
+        for (int i = 0; i < data.length; i++) {
+            Badge b = new Badge();
+            b.setId((long) i + 1);
+            b.setName(data[i][0]);
+            b.setDescription(data[i][1]);
+            b.setIcon(data[i][2]);
+            b.setAwardedAt(LocalDateTime.of(2026, 9, 1, 10, 0).plusDays(i * 7L));
+            badges.add(b);
+        }
+        return badges;
+    }
+
+    /** The projections the repositories hand to the profile view, built from the same rows. */
+    static List<UserSkillDTO> skillViews() {
+        return skills().stream()
+                .map(s -> new UserSkillDTO(s.getId(), s.getSkillName(), s.getCategory(), s.getScore()))
+                .toList();
+    }
+
+    static List<ActivityLogDTO> activityViews() {
+        return recentActivity().stream()
+                .map(a -> new ActivityLogDTO(a.getId(), a.getActivityType(), a.getTitle(), a.getXpEarned(),
+                        a.getSkillTag(), a.getDurationMinutes(), a.getTimestamp()))
+                .toList();
+    }
+
+    static List<BadgeDTO> badgeViews() {
+        return badges().stream()
+                .map(b -> new BadgeDTO(b.getId(), b.getName(), b.getDescription(), b.getIcon(), b.getAwardedAt()))
+                .toList();
+    }
+
+    static List<ActivityAggregate> aggregates() {
+        List<ActivityAggregate> aggregates = new ArrayList<>();
+        String[] types = { "COURSE", "LAB", "QUIZ", "PROJECT" };
+        for (int i = 0; i < types.length; i++) {
+            ActivityAggregate a = new ActivityAggregate();
+            a.setUserId(42L);
+            a.setActivityType(types[i]);
+            a.setActivityCount(10L + i * 3);
+            a.setTotalMinutes(300L + i * 120);
+            a.setTotalXp(1000L + i * 500);
+            aggregates.add(a);
+        }
+        return aggregates;
+    }
+
+    /** A data URL of random bytes, which is what base64 of a compressed image looks like to a serializer. */
+    static String dataUrl(int bytes) {
+        byte[] raw = new byte[bytes];
+        new Random(1).nextBytes(raw);
+        return "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(raw);
+    }
+}
@@ -0,0 +1,89 @@
+package com.skillpath.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillpath.dto.FullProfileResponse;
+import com.skillpath.model.CareerReadiness;
+import com.skillpath.model.User;
+import com.skillpath.repository.ActivityAggregateRepository;
+import com.skillpath.repository.ActivityLogRepository;
+import com.skillpath.repository.BadgeRepository;
+import com.skillpath.repository.CareerReadinessRepository;
+import com.skillpath.repository.ProfileVersion;
+import com.skillpath.repository.UserRepository;
+import com.skillpath.repository.UserSkillRepository;
+import com.skillpath.service.CareerReadinessService;
+import com.skillpath.service.MediaStore;
+import com.skillpath.service.ProfileService;
+import com.skillpath.service.ProfileViewCache;
+import com.skillpath.service.RoleRequirementMatrix;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO assembly in {@link ProfileService#getFullProfile} with the
+ * repositories answered from memory, so only the mapping work is measured.
+ * The view cache entry is dropped before each call to force a rebuild.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProfileMappingBenchmark {
+
+    private ProfileService profileService;
+    private ProfileViewCache viewCache;
+    private Long userId;
+
+    @Setup
+    public void setup() throws IOException {
+        User user = ProfileFixtures.user(0);
+        userId = user.getId();
+        RoleRequirementMatrix matrix = new RoleRequirementMatrix(new ObjectMapper());
+
+        CareerReadiness readiness = new CareerReadiness();
+        readiness.setUserId(user.getId());
+        readiness.setRoleId("fullstack");
+        readiness.setScore(64);
+        readiness.setReadinessLevel("Moderate");
+        readiness.setMissingSkills("Node.js,SQL,System Design");
+        readiness.setMatrixVersion(matrix.version());
+        readiness.setComputedAt(LocalDateTime.now());
+
+        viewCache = new ProfileViewCache(100, Duration.ofMinutes(10));
+        CareerReadinessService readinessService = new CareerReadinessService(matrix,
+                Stubs.repository(CareerReadinessRepository.class, Map.of("findById", Optional.of(readiness))),
+                viewCache, null, null, null, null, 1, 500);
+
+        profileService = new ProfileService(
+                Stubs.repository(UserRepository.class, Map.of("findByEmail", Optional.of(user),
+                        "findProfileVersionByEmail", Optional.of(new ProfileVersion(user.getId(), 1)))),
+                Stubs.repository(UserSkillRepository.class, Map.of("existsByUserId", true, "findViewsByUserId", ProfileFixtures.skillViews())),
+                Stubs.repository(ActivityLogRepository.class, Map.of("findLatestPage", ProfileFixtures.activityViews())),
+                Stubs.repository(BadgeRepository.class, Map.of("findViewsByUserId", ProfileFixtures.badgeViews())),
+                Stubs.repository(ActivityAggregateRepository.class, Map.of("findByUserId", ProfileFixtures.aggregates())),
+                viewCache, event -> { },
+                new MediaStore("target/bench-media", List.of(64), 5_242_880, 25_000_000, "http://localhost:8000"),
+                null, readinessService, Stubs.transactionManager(), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public FullProfileResponse buildFullProfile() {
+        viewCache.invalidateUser(userId);
+        return profileService.getFullProfile(ProfileFixtures.EMAIL);
+    }
+
+    @Benchmark
+    public FullProfileResponse cachedFullProfile() {
+        return profileService.getFullProfile(ProfileFixtures.EMAIL);
+    }
+}
@@ -0,0 +1,39 @@
+package com.skillpath.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillpath.dto.FullProfileResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a full profile response, with no picture, a small
+ * avatar and a large inline base64 picture (legacy rows that predate the
+ * media store still carry one).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProfileSerializationBenchmark {
+
+    @Param({ "0", "16384", "1048576" })
+    public int pictureBytes;
+
+    private ObjectMapper objectMapper;
+    private FullProfileResponse response;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = ProfileFixtures.response(pictureBytes);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,42 @@
+package com.skillpath.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillpath.model.UserSkill;
+import com.skillpath.service.RoleRequirementMatrix;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Career readiness for one user: building the skill vector from their skills
+ * and evaluating it against the role matching their goal. This is the work
+ * the readiness job does per user.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadinessBenchmark {
+
+    private RoleRequirementMatrix matrix;
+    private List<UserSkill> skills;
+
+    @Setup
+    public void setup() throws IOException {
+        matrix = new RoleRequirementMatrix(new ObjectMapper());
+        skills = ProfileFixtures.skills();
+    }
+
+    @Benchmark
+    public RoleRequirementMatrix.Readiness evaluate() {
+        double[] vector = matrix.newVector();
+        for (UserSkill s : skills) {
+            matrix.put(vector, s.getSkillName(), s.getScore());
+        }
+        return matrix.evaluate("Full Stack Developer", vector);
+    }
+}
@@ -0,0 +1,53 @@
+package com.skillpath.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillpath.config.WireFormat;
+import com.skillpath.config.WireFormats;
+import com.skillpath.dto.FullProfileResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of the full profile response in each wire format,
+ * using the same mappers the message converters are built from. The encoded
+ * size of each payload is printed once per fork, since JMH only measures time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({ "JSON", "CBOR", "SMILE" })
+    public WireFormat format;
+
+    @Param({ "0", "16384" })
+    public int pictureBytes;
+
+    private ObjectMapper mapper;
+    private FullProfileResponse response;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws Exception {
+        WireFormats wireFormats = new WireFormats(Jackson2ObjectMapperBuilder.json().build(), Jackson2ObjectMapperBuilder.json());
+        mapper = wireFormats.mapper(format);
+        response = ProfileFixtures.response(pictureBytes);
+        encoded = mapper.writeValueAsBytes(response);
+        System.out.printf("%n%s profile with %d picture bytes encodes to %d bytes%n", format, pictureBytes, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public FullProfileResponse decode() throws Exception {
+        return mapper.readValue(encoded, FullProfileResponse.class);
+    }
+}
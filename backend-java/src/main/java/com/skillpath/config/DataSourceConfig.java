@@ -0,0 +1,75 @@
+package com.skillpath.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes go to the primary, read-only transactions to the replicas listed in
+ * {@code datasource.replicas}. With no replicas configured the primary pool is
+ * the data source, as before.
+ * <p>
+ * Every pool reports its own {@code hikaricp.*} metrics, tagged by pool name.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceConfig.class);
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, MeterRegistry meterRegistry, ReadYourWrites readYourWrites,
+                                 @Value("${datasource.replicas:}") List<String> replicaUrls,
+                                 @Value("${datasource.replica-pool-size:10}") int replicaPoolSize) {
+        HikariDataSource primary = pool(properties, properties.determineUrl(), "primary", meterRegistry);
+
+        if (replicaUrls.isEmpty()) {
+            return primary;
+        }
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = pool(properties, replicaUrls.get(i).trim(), name, meterRegistry);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(new ReplicaRoutingDataSource.Replica(name, replica,
+                    ReplicaRoutingDataSource.route(meterRegistry, name, "replica"),
+                    Counter.builder("datasource.replica.failures").tag("target", name).register(meterRegistry)));
+        }
+        log.info("Routing read-only transactions to {} replicas", replicas.size());
+        // The transaction manager asks for a connection before the transaction's
+        // read-only flag is bound; the proxy defers the real fetch to the first statement
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replicas, readYourWrites, meterRegistry));
+    }
+
+    @PreDestroy
+    void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource pool(DataSourceProperties properties, String url, String name, MeterRegistry meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        pools.add(pool);
+        return pool;
+    }
+}
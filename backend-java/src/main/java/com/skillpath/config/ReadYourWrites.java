@@ -0,0 +1,78 @@
+package com.skillpath.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skillpath.service.UserDataChangedEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Users who wrote recently, whose reads stay on the primary until replicas
+ * have had time to catch up. A user is marked by any mutating request, which
+ * also covers writes that are queued and applied later, and by any write to
+ * their data committed on a request thread, such as the skill sync a first
+ * profile read performs.
+ */
+@Component
+public class ReadYourWrites implements HandlerInterceptor {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(@Value("${datasource.sticky-window:5s}") Duration window,
+                          @Value("${datasource.sticky-max-users:100000}") long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    /** Whether the user on the current thread must read from the primary. */
+    public boolean isSticky() {
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    public void markCurrentUser() {
+        String user = currentUser();
+        if (user != null) {
+            mark(user);
+        }
+    }
+
+    /** For writes made before the user is authenticated, such as registration. */
+    public void mark(String user) {
+        recentWriters.put(user, Boolean.TRUE);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method)) {
+            markCurrentUser();
+        }
+        return true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        markCurrentUser();
+    }
+
+    public long getSize() {
+        return recentWriters.estimatedSize();
+    }
+
+    private static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken) ? auth.getName() : null;
+    }
+}
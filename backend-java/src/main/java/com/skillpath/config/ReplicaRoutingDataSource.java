@@ -0,0 +1,94 @@
+package com.skillpath.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out primary connections, except inside read-only transactions, which
+ * get a replica in round-robin order unless the current user is inside their
+ * read-your-writes window. It sits behind a lazy proxy, so the pool is chosen
+ * on the first statement, after the transaction's read-only flag has been set.
+ * <p>
+ * A replica that cannot hand out a connection is skipped, and the primary
+ * answers when none can, so a lost replica costs throughput rather than reads.
+ */
+class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    record Replica(String name, DataSource dataSource, Counter routed, Counter failed) {}
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter stickyReads;
+    private final Counter fallbackReads;
+
+    ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, ReadYourWrites readYourWrites,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWrites = readYourWrites;
+        this.stickyReads = route(meterRegistry, "primary", "sticky");
+        this.fallbackReads = route(meterRegistry, "primary", "fallback");
+    }
+
+    static Counter route(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.reads")
+                .description("Read-only connections by the pool that served them")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    /** Routed the same way, with the caller's credentials passed to whichever pool is chosen. */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(ds -> ds.getConnection(username, password));
+    }
+
+    private Connection connect(Connector connector) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return connector.connect(primary);
+        }
+        if (readYourWrites.isSticky()) {
+            stickyReads.increment();
+            return connector.connect(primary);
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            try {
+                Connection con = connector.connect(replica.dataSource());
+                replica.routed().increment();
+                return con;
+            } catch (SQLException e) {
+                replica.failed().increment();
+                log.warn("Replica {} unavailable, trying the next one: {}", replica.name(), e.getMessage());
+            }
+        }
+        fallbackReads.increment();
+        return connector.connect(primary);
+    }
+
+    @FunctionalInterface
+    private interface Connector {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
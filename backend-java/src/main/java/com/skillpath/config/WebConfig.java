@@ -0,0 +1,24 @@
+package com.skillpath.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC interceptors. {@link ReadYourWrites} marks users on mutating
+ * requests, so their next reads stay on the primary.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ReadYourWrites readYourWrites;
+
+    public WebConfig(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readYourWrites);
+    }
+}
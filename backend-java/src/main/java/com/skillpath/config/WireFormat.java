@@ -0,0 +1,69 @@
+package com.skillpath.config;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Encodings the API can answer in. JSON is the default; CBOR and Smile are
+ * opt-in for clients that name them in their {@code Accept} header.
+ */
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.parseMediaType("application/cbor")),
+    SMILE(MediaType.parseMediaType("application/x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public boolean isBinary() {
+        return this != JSON;
+    }
+
+    /**
+     * Picks the format with the highest quality in an {@code Accept} header.
+     * Wildcards and ties resolve to JSON, so a binary format is only chosen
+     * when a client asks for it by name.
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) return JSON;
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        WireFormat best = JSON;
+        double bestQuality = 0;
+        for (WireFormat format : values()) {
+            double quality = 0;
+            for (MediaType range : accepted) {
+                if (range.includes(format.mediaType)) {
+                    quality = Math.max(quality, range.getQualityValue());
+                }
+            }
+            if (quality > bestQuality) {
+                best = format;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    /** The format a media type chosen by Spring's content negotiation stands for, if any. */
+    public static WireFormat of(MediaType mediaType) {
+        if (mediaType == null) return null;
+        for (WireFormat format : values()) {
+            if (format.mediaType.equalsTypeAndSubtype(mediaType)) return format;
+        }
+        return null;
+    }
+}
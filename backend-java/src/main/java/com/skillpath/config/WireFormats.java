@@ -0,0 +1,77 @@
+package com.skillpath.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.charset.Charset;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One ObjectMapper per {@link WireFormat}, all built from Boot's Jackson
+ * builder so every encoding shares the same modules, naming and date
+ * settings as JSON. The binary message converters registered here replace
+ * the defaults Spring MVC would otherwise create with a bare builder.
+ */
+@Configuration
+public class WireFormats implements WebMvcConfigurer {
+
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+
+    public WireFormats(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder builder) {
+        mappers.put(WireFormat.JSON, objectMapper);
+        mappers.put(WireFormat.CBOR, builder.factory(new CBORFactory()).build());
+        mappers.put(WireFormat.SMILE, builder.factory(new SmileFactory()).build());
+    }
+
+    public ObjectMapper mapper(WireFormat format) {
+        return mappers.get(format);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(mapper(WireFormat.CBOR));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(mapper(WireFormat.SMILE));
+    }
+
+    /**
+     * Plain-text bodies such as validation messages would otherwise be written
+     * verbatim under a binary content type, since the string converters accept
+     * any media type. Declining the binary formats lets Jackson encode them as
+     * a proper CBOR or Smile string instead.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(c -> c instanceof StringHttpMessageConverter s && !(c instanceof TextOnlyStringConverter)
+                ? new TextOnlyStringConverter(s.getDefaultCharset())
+                : c);
+    }
+
+    private static final class TextOnlyStringConverter extends StringHttpMessageConverter {
+
+        TextOnlyStringConverter(Charset charset) {
+            super(charset);
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+            WireFormat format = WireFormat.of(mediaType);
+            return (format == null || !format.isBinary()) && super.canWrite(clazz, mediaType);
+        }
+    }
+}
@@ -1,57 +1,159 @@
-
 package com.skillpath.controller;
 
+import com.skillpath.dto.ActivityLogDTO;
+import com.skillpath.dto.ActivityPageDTO;
 import com.skillpath.dto.ActivityRequest;
-import com.skillpath.model.ActivityLog;
-import com.skillpath.model.User;
+import com.skillpath.dto.HeatmapDayDTO;
 import com.skillpath.repository.ActivityLogRepository;
+import com.skillpath.repository.DailyActivityRollupRepository;
 import com.skillpath.repository.UserRepository;
+import com.skillpath.service.ActivityBatchService;
+import com.skillpath.service.ActivityEvent;
+import com.skillpath.service.ActivityIngestionService;
+import com.skillpath.service.IdempotencyIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/activity")
 public class ActivityController {
 
+    private static final long MAX_HEATMAP_DAYS = 3 * 366;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ActivityIngestionService ingestionService;
+    private final ActivityBatchService batchService;
+    private final IdempotencyIndex idempotencyIndex;
+    private final DailyActivityRollupRepository dailyRollupRepository;
     private final ActivityLogRepository activityLogRepository;
     private final UserRepository userRepository;
+    private final int maxBatchItems;
+    private final Duration maxBackdate;
 
-    public ActivityController(ActivityLogRepository activityLogRepository, UserRepository userRepository) {
+    public ActivityController(ActivityIngestionService ingestionService, ActivityBatchService batchService,
+                              IdempotencyIndex idempotencyIndex, DailyActivityRollupRepository dailyRollupRepository,
+                              ActivityLogRepository activityLogRepository, UserRepository userRepository,
+                              @Value("${activity.batch.max-items:1000}") int maxBatchItems,
+                              @Value("${activity.max-backdate:30d}") Duration maxBackdate) {
+        this.ingestionService = ingestionService;
+        this.batchService = batchService;
+        this.idempotencyIndex = idempotencyIndex;
+        this.dailyRollupRepository = dailyRollupRepository;
         this.activityLogRepository = activityLogRepository;
         this.userRepository = userRepository;
+        this.maxBatchItems = maxBatchItems;
+        this.maxBackdate = maxBackdate;
     }
 
     @PostMapping("/log")
     public ResponseEntity<?> logActivity(@RequestBody ActivityRequest request) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        Long userId = currentUserId();
+        String key = request.getIdempotencyKey();
+
+        if (key != null && !idempotencyIndex.reserve(userId, key)) {
+            return ResponseEntity.ok().body(Map.of("status", "duplicate"));
+        }
+
+        // Log row and XP are written asynchronously in batches
+        if (!ingestionService.submit(ActivityEvent.from(userId, request, maxBackdate))) {
+            if (key != null) idempotencyIndex.release(userId, key);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header("Retry-After", "1")
+                    .body(Map.of("status", "busy"));
+        }
+
+        return ResponseEntity.accepted().body(Map.of("status", "queued"));
+    }
 
-        ActivityLog log = new ActivityLog();
-        log.setUser(user);
-        log.setActivityType(request.getType());
-        log.setTitle(request.getTitle());
-        log.setXpEarned(request.getXp());
-        log.setSkillTag(request.getSkillTag());
-        log.setDurationMinutes(request.getDurationMinutes() != null ? request.getDurationMinutes() : 0);
-        log.setTimestamp(LocalDateTime.now());
-
-        // Update User Aggregate Stats
-        user.setXp(user.getXp() + request.getXp());
-        user.setLastActive(LocalDateTime.now());
-        
-        // Simple level up logic: Level up every 1000 XP
-        int newLevel = (int) (user.getXp() / 1000) + 1;
-        if (newLevel > user.getLevel()) {
-            user.setLevel(newLevel);
+    @PostMapping("/batch")
+    public ResponseEntity<?> logBatch(@RequestBody List<ActivityRequest> requests) {
+        if (requests.size() > maxBatchItems) {
+            return ResponseEntity.badRequest().body("Batch exceeds " + maxBatchItems + " items");
         }
+        return ResponseEntity.ok(batchService.upload(currentUserId(), requests));
+    }
 
-        userRepository.save(user);
-        activityLogRepository.save(log);
+    @GetMapping
+    public ResponseEntity<?> getHistory(@RequestParam(required = false) String before,
+                                        @RequestParam(defaultValue = "20") int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Long userId = currentUserId();
+        // One extra row tells us whether another page exists
+        PageRequest page = PageRequest.of(0, size + 1);
 
-        return ResponseEntity.ok().body("{\"status\": \"logged\", \"newXp\": " + user.getXp() + "}");
+        List<ActivityLogDTO> rows;
+        if (before == null || before.isEmpty()) {
+            rows = activityLogRepository.findLatestPage(userId, page);
+        } else {
+            String[] cursor = decodeCursor(before);
+            if (cursor == null) {
+                return ResponseEntity.badRequest().body("Invalid cursor");
+            }
+            rows = activityLogRepository.findPageBefore(userId, LocalDateTime.parse(cursor[0]), Long.parseLong(cursor[1]), page);
+        }
+
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            ActivityLogDTO last = rows.get(size - 1);
+            next = encodeCursor(last.getTimestamp(), last.getId());
+        }
+        return ResponseEntity.ok(new ActivityPageDTO(rows, next));
+    }
+
+    @GetMapping("/heatmap")
+    public ResponseEntity<?> getHeatmap(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (to == null) to = LocalDate.now();
+        if (from == null) from = to.minusDays(364);
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) > MAX_HEATMAP_DAYS) {
+            return ResponseEntity.badRequest().body("Invalid date range");
+        }
+
+        // Days without activity are omitted, the client fills the gaps
+        List<HeatmapDayDTO> days = dailyRollupRepository
+                .findByUserIdAndActivityDateBetweenOrderByActivityDate(currentUserId(), from, to).stream()
+                .map(r -> new HeatmapDayDTO(r.getActivityDate().toString(), r.getTotalMinutes(), r.getTotalXp(), r.getActivityCount()))
+                .toList();
+        return ResponseEntity.ok(days);
+    }
+
+    private static String encodeCursor(LocalDateTime timestamp, Long id) {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns {timestamp, id}, or null if the cursor was not produced by encodeCursor
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) return null;
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private Long currentUserId() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return userRepository.findIdByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
     }
 }
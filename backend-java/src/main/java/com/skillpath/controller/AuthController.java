@@ -1,6 +1,7 @@
 
 package com.skillpath.controller;
 
+import com.skillpath.config.ReadYourWrites;
 import com.skillpath.dto.AuthRequest;
 import com.skillpath.dto.AuthResponse;
 import com.skillpath.dto.RegisterRequest;
@@ -10,6 +11,8 @@ import com.skillpath.model.Profile;
 import com.skillpath.repository.UserRepository;
 import com.skillpath.repository.ProfileRepository;
 import com.skillpath.security.JwtUtil;
+import com.skillpath.security.PasswordHashingRejectedException;
+import com.skillpath.service.PrincipalCache;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,7 +23,6 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,23 +35,27 @@ public class AuthController {
     private final UserRepository userRepository;
     private final ProfileRepository profileRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final ReadYourWrites readYourWrites;
     
     // In production, this would be in application.properties
     private final String FRONTEND_URL = "http://localhost:5173/#/auth/callback"; 
 
     public AuthController(AuthenticationManager authenticationManager, JwtUtil jwtUtil, 
                          UserRepository userRepository, ProfileRepository profileRepository, 
-                         PasswordEncoder passwordEncoder) {
+                         PasswordEncoder passwordEncoder, PrincipalCache principalCache, ReadYourWrites readYourWrites) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
         this.profileRepository = profileRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
+        this.readYourWrites = readYourWrites;
     }
 
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
+        if (userRepository.existsByEmail(request.getEmail())) {
             return ResponseEntity.badRequest().body("Email already registered");
         }
         createUserFlow(request.getEmail(), request.getFullName(), request.getPassword());
@@ -63,15 +69,23 @@ public class AuthController {
             authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
             );
-            User user = userRepository.findByEmail(request.getEmail()).orElseThrow();
-            updateUserStats(user);
+            // Streaks are driven by activity (see StreakService), so logging in writes nothing
             final String jwt = jwtUtil.generateToken(request.getEmail());
             return ResponseEntity.ok(new AuthResponse(jwt, "bearer"));
+        } catch (PasswordHashingRejectedException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(401).body("Incorrect email or password");
         }
     }
 
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<?> hashingBusy(PasswordHashingRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body("Too many sign-in attempts right now, please retry");
+    }
+
     /**
      * OAuth 2.0 Flow Simulation:
      * 1. Frontend calls this endpoint.
@@ -104,11 +118,10 @@ public class AuthController {
         }
 
         // Check if user exists in SQL DB, else create
-        Optional<User> existing = userRepository.findByEmail(email);
+        Optional<User> existing = userRepository.findOnPrimaryByEmail(email);
         User user;
         if (existing.isPresent()) {
             user = existing.get();
-            updateUserStats(user);
         } else {
             user = createUserFlow(email, name, UUID.randomUUID().toString());
             user.setProfilePictureUrl(profilePic);
@@ -129,11 +142,13 @@ public class AuthController {
         user.setFullName(name);
         user.setJoinDate(LocalDateTime.now());
         user.setLastActive(LocalDateTime.now());
-        user.setStreak(1);
+        user.setStreak(0);
         user.setXp(0L);
         user.setLevel(1);
         
         userRepository.save(user);
+        principalCache.evict(email);
+        readYourWrites.mark(email);
         createDefaultProfile(user);
         return user;
     }
@@ -147,21 +162,4 @@ public class AuthController {
         user.setProfile(profile);
         userRepository.save(user);
     }
-    
-    private void updateUserStats(User user) {
-        LocalDateTime now = LocalDateTime.now();
-        if (user.getLastActive() != null) {
-            long days = ChronoUnit.DAYS.between(user.getLastActive().toLocalDate(), now.toLocalDate());
-            if (days == 1) {
-                user.setStreak((user.getStreak() == null ? 0 : user.getStreak()) + 1);
-            } else if (days > 1) {
-                user.setStreak(1);
-            }
-            if (user.getStreak() == null) user.setStreak(1);
-        } else {
-            user.setStreak(1);
-        }
-        user.setLastActive(now);
-        userRepository.save(user);
-    }
 }
@@ -0,0 +1,29 @@
+package com.skillpath.controller;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * If-None-Match matching as HTTP specifies it: the header is {@code *} or a
+ * list of entity tags, compared weakly, so {@code W/"x"} (as rewritten by
+ * compressing proxies) matches {@code "x"}.
+ */
+final class EntityTags {
+
+    private static final Pattern ENTITY_TAG = Pattern.compile("\\*|(?:W/)?(\"[^\"]*\")");
+
+    private EntityTags() {
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        Matcher m = ENTITY_TAG.matcher(ifNoneMatch);
+        while (m.find()) {
+            if (m.group(1) == null || m.group(1).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
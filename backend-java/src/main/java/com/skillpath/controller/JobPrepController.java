@@ -1,56 +1,89 @@
-
 package com.skillpath.controller;
 
+import com.skillpath.config.WireFormat;
+import com.skillpath.dto.JobPrepProgressDTO;
+import com.skillpath.dto.JobPrepProgressRequest;
+import com.skillpath.repository.UserRepository;
+import com.skillpath.service.JobPrepCatalog;
+import com.skillpath.service.JobPrepProgressService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
 
 @RestController
 @RequestMapping("/api/job-prep")
 public class JobPrepController {
 
-    // Simulating a database for the purpose of this example
-    private final Map<String, List<Map<String, Object>>> domainModules = new HashMap<>();
+    private final JobPrepCatalog catalog;
+    private final JobPrepProgressService progressService;
+    private final UserRepository userRepository;
 
-    public JobPrepController() {
-        // Init Mock Data
-        List<Map<String, Object>> commModules = new ArrayList<>();
-        commModules.add(Map.of("id", "comm-1", "title", "English Speaking Avatar", "type", "ai-tutor", "difficulty", "Medium"));
-        commModules.add(Map.of("id", "comm-2", "title", "Grammar Mastery", "type", "learning", "difficulty", "Easy"));
-        domainModules.put("communication", commModules);
-        
-        List<Map<String, Object>> aptModules = new ArrayList<>();
-        aptModules.add(Map.of("id", "apt-1", "title", "Quantitative Aptitude", "type", "practice", "difficulty", "Medium"));
-        domainModules.put("aptitude", aptModules);
+    public JobPrepController(JobPrepCatalog catalog, JobPrepProgressService progressService, UserRepository userRepository) {
+        this.catalog = catalog;
+        this.progressService = progressService;
+        this.userRepository = userRepository;
     }
 
+    // Bodies are pre-encoded, so the format is negotiated here rather than by a message converter
     @GetMapping("/domains")
-    public ResponseEntity<?> getDomains() {
-        // Return list of available domains
-        return ResponseEntity.ok(List.of(
-            Map.of("id", "communication", "title", "Communication Skills", "category", "Non-Tech"),
-            Map.of("id", "fullstack", "title", "Full Stack Dev", "category", "Tech"),
-            Map.of("id", "aptitude", "title", "Aptitude & Reasoning", "category", "Aptitude")
-        ));
+    public ResponseEntity<byte[]> getDomains(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        WireFormat format = WireFormat.negotiate(accept);
+        return respond(catalog.domains(format), format, ifNoneMatch);
     }
 
     @GetMapping("/domains/{id}/modules")
-    public ResponseEntity<?> getModules(@PathVariable String id) {
-        if (domainModules.containsKey(id)) {
-            return ResponseEntity.ok(domainModules.get(id));
+    public ResponseEntity<byte[]> getModules(@PathVariable String id,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        WireFormat format = WireFormat.negotiate(accept);
+        JobPrepCatalog.Encoded modules = catalog.modules(id, format);
+        if (modules != null) {
+            return respond(modules, format, ifNoneMatch);
         }
-        // Return generic empty list or default modules if ID not found in mock
-        return ResponseEntity.ok(List.of(
-             Map.of("id", id + "-1", "title", "Core Concepts", "type", "learning", "difficulty", "Easy")
-        ));
+        // Unknown domains have no modules progress could be saved against, so none are offered
+        return ResponseEntity.notFound().build();
     }
     
     @PostMapping("/progress")
-    public ResponseEntity<?> saveProgress(@RequestBody Map<String, Object> progress) {
-        // Logic to save progress to DB
-        return ResponseEntity.ok(Map.of("status", "saved"));
+    public ResponseEntity<?> saveProgress(@RequestBody JobPrepProgressRequest request) {
+        if (!catalog.containsModule(request.getDomainId(), request.getModuleId())) {
+            return ResponseEntity.badRequest().body("Unknown module");
+        }
+        // Coalesced in memory and written with the next batch
+        progressService.save(currentUserId(), request);
+        return ResponseEntity.accepted().body(Map.of("status", "queued"));
+    }
+
+    @GetMapping("/progress")
+    public List<JobPrepProgressDTO> getProgress() {
+        return progressService.findByUser(currentUserId());
+    }
+
+    @GetMapping("/progress/{domainId}")
+    public List<JobPrepProgressDTO> getDomainProgress(@PathVariable String domainId) {
+        return progressService.findByUserAndDomain(currentUserId(), domainId);
+    }
+
+    private static ResponseEntity<byte[]> respond(JobPrepCatalog.Encoded encoded, WireFormat format, String ifNoneMatch) {
+        if (EntityTags.matches(ifNoneMatch, encoded.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(encoded.etag()).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(encoded.etag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.mediaType())
+                .contentLength(encoded.body().length)
+                .body(encoded.body());
+    }
+
+    private Long currentUserId() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return userRepository.findIdByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
     }
 }
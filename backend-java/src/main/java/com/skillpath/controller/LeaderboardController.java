@@ -0,0 +1,91 @@
+package com.skillpath.controller;
+
+import com.skillpath.dto.LeaderboardEntryDTO;
+import com.skillpath.dto.LeaderboardPositionDTO;
+import com.skillpath.repository.UserName;
+import com.skillpath.repository.UserRepository;
+import com.skillpath.service.LeaderboardService;
+import com.skillpath.service.RankedScoreBoard;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+public class LeaderboardController {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_RADIUS = 25;
+
+    private final LeaderboardService leaderboardService;
+    private final UserRepository userRepository;
+
+    public LeaderboardController(LeaderboardService leaderboardService, UserRepository userRepository) {
+        this.leaderboardService = leaderboardService;
+        this.userRepository = userRepository;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getTop(@RequestParam(defaultValue = "global") String board,
+                                    @RequestParam(required = false) String skill,
+                                    @RequestParam(defaultValue = "10") int limit) {
+        if (!isKnownBoard(board, skill)) {
+            return ResponseEntity.badRequest().body("Unknown leaderboard");
+        }
+        RankedScoreBoard scores = resolve(board, skill);
+        if (scores == null) return ResponseEntity.ok(List.of());
+        List<RankedScoreBoard.Entry> top = scores.top(Math.max(1, Math.min(limit, MAX_LIMIT)));
+        return ResponseEntity.ok(toDtos(top, currentUserId()));
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<?> getMyPosition(@RequestParam(defaultValue = "global") String board,
+                                           @RequestParam(required = false) String skill,
+                                           @RequestParam(defaultValue = "5") int radius) {
+        if (!isKnownBoard(board, skill)) {
+            return ResponseEntity.badRequest().body("Unknown leaderboard");
+        }
+        Long userId = currentUserId();
+        RankedScoreBoard scores = resolve(board, skill);
+        if (scores == null || scores.rank(userId) == 0) {
+            return ResponseEntity.ok(new LeaderboardPositionDTO(null, 0L, scores == null ? 0 : scores.size(), List.of()));
+        }
+        List<RankedScoreBoard.Entry> around = scores.around(userId, Math.max(0, Math.min(radius, MAX_RADIUS)));
+        return ResponseEntity.ok(new LeaderboardPositionDTO(
+                scores.rank(userId), scores.score(userId), scores.size(), toDtos(around, userId)));
+    }
+
+    private boolean isKnownBoard(String board, String skill) {
+        return "global".equals(board) || "weekly".equals(board)
+                || ("skill".equals(board) && skill != null && !skill.isBlank());
+    }
+
+    private RankedScoreBoard resolve(String board, String skill) {
+        return switch (board) {
+            case "weekly" -> leaderboardService.getWeekly();
+            case "skill" -> leaderboardService.getSkill(skill);
+            default -> leaderboardService.getGlobal();
+        };
+    }
+
+    private List<LeaderboardEntryDTO> toDtos(List<RankedScoreBoard.Entry> entries, Long me) {
+        Map<Long, String> names = userRepository.findByIdIn(
+                        entries.stream().map(RankedScoreBoard.Entry::userId).toList()).stream()
+                .filter(u -> u.getFullName() != null)
+                .collect(Collectors.toMap(UserName::getId, UserName::getFullName));
+        return entries.stream()
+                .map(e -> new LeaderboardEntryDTO(e.rank(), names.getOrDefault(e.userId(), "Learner"),
+                        e.score(), me != null && me == e.userId()))
+                .toList();
+    }
+
+    private Long currentUserId() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return userRepository.findIdByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+}
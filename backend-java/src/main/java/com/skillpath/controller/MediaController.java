@@ -0,0 +1,75 @@
+package com.skillpath.controller;
+
+import com.skillpath.service.MediaStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/media")
+public class MediaController {
+
+    // Stored files are content-addressed and never change
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final MediaStore mediaStore;
+
+    public MediaController(MediaStore mediaStore) {
+        this.mediaStore = mediaStore;
+    }
+
+    @GetMapping("/{hash}")
+    public void getMedia(@PathVariable String hash, @RequestParam(required = false) Integer size,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<Path> file = mediaStore.resolve(hash, size);
+        if (file.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Path path = file.get();
+        // Anything stored before uploads were limited to images is not served
+        String contentType = mediaStore.contentType(path);
+        if (!contentType.startsWith("image/")) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String etag = "\"" + path.getFileName() + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = Files.size(path);
+        response.setContentType(contentType);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setContentLengthLong(length);
+
+        // Let Tomcat hand the file to the kernel with sendfile when the connector supports it
+        if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+            request.setAttribute("org.apache.tomcat.sendfile.filename", path.toAbsolutePath().toString());
+            request.setAttribute("org.apache.tomcat.sendfile.start", 0L);
+            request.setAttribute("org.apache.tomcat.sendfile.end", length);
+            return;
+        }
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < length) {
+                position += in.transferTo(position, length - position, out);
+            }
+        }
+    }
+}
@@ -1,25 +1,65 @@
-
 package com.skillpath.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.skillpath.config.WireFormat;
+import com.skillpath.config.WireFormats;
 import com.skillpath.dto.FullProfileResponse;
+import com.skillpath.repository.ProfileVersion;
 import com.skillpath.service.ProfileService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Locale;
+
 @RestController
 @RequestMapping("/api/profile")
 public class ProfileController {
 
     private final ProfileService profileService;
+    private final WireFormats wireFormats;
 
-    public ProfileController(ProfileService profileService) {
+    public ProfileController(ProfileService profileService, WireFormats wireFormats) {
         this.profileService = profileService;
+        this.wireFormats = wireFormats;
     }
 
+    // A matching ETag is answered from the version alone, without skills, badges or logs.
+    // The body is encoded here in the format the ETag names, not left to a message converter.
     @GetMapping("/me")
-    public ResponseEntity<FullProfileResponse> getMyProfile() {
+    public ResponseEntity<byte[]> getMyProfile(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return ResponseEntity.ok(profileService.getFullProfile(email));
+        ProfileVersion version = profileService.currentVersion(email);
+        WireFormat format = WireFormat.negotiate(accept);
+        String etag = etag(version.userId(), version.version(), format);
+        if (EntityTags.matches(ifNoneMatch, etag)) {
+            profileService.recordNotModified();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        FullProfileResponse view = profileService.getFullProfile(email, version);
+        byte[] body = encode(view, format);
+        return ResponseEntity.ok()
+                .eTag(etag(version.userId(), view.getVersion(), format))
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(format.mediaType())
+                .contentLength(body.length)
+                .body(body);
+    }
+
+    private byte[] encode(FullProfileResponse view, WireFormat format) {
+        try {
+            return wireFormats.mapper(format).writeValueAsBytes(view);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode profile", e);
+        }
+    }
+
+    private static String etag(Long userId, long version, WireFormat format) {
+        return "\"" + userId + "-" + version + "-" + format.name().toLowerCase(Locale.ROOT) + "\"";
     }
 }
@@ -6,11 +6,20 @@ import com.skillpath.model.Profile;
 import com.skillpath.model.User;
 import com.skillpath.repository.ProfileRepository;
 import com.skillpath.repository.UserRepository;
+import com.skillpath.service.MediaStore;
+import com.skillpath.service.PrincipalCache;
 import com.skillpath.service.ProfileService;
+import com.skillpath.service.ProfileVersions;
+import com.skillpath.service.SkillProfileChangedEvent;
+import com.skillpath.service.UserDataChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/users")
 public class UserController {
@@ -18,17 +27,50 @@ public class UserController {
     private final UserRepository userRepository;
     private final ProfileRepository profileRepository;
     private final ProfileService profileService;
+    private final PrincipalCache principalCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MediaStore mediaStore;
+    private final ProfileVersions profileVersions;
+    private final TransactionTemplate transactionTemplate;
 
-    public UserController(UserRepository userRepository, ProfileRepository profileRepository, ProfileService profileService) {
+    public UserController(UserRepository userRepository, ProfileRepository profileRepository, ProfileService profileService,
+                          PrincipalCache principalCache, ApplicationEventPublisher eventPublisher,
+                          MediaStore mediaStore, ProfileVersions profileVersions, TransactionTemplate transactionTemplate) {
         this.userRepository = userRepository;
         this.profileRepository = profileRepository;
         this.profileService = profileService;
+        this.principalCache = principalCache;
+        this.eventPublisher = eventPublisher;
+        this.mediaStore = mediaStore;
+        this.profileVersions = profileVersions;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @PutMapping("/profile")
     public ResponseEntity<?> updateProfile(@RequestBody ProfileUpdateRequest request) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        // Uploaded images go to the media store before anything is written, so a rejected image fails the whole update
+        String picture = request.getProfilePictureUrl();
+        String pictureHash;
+        try {
+            pictureHash = picture != null && MediaStore.isDataUrl(picture) ? mediaStore.storeDataUrl(picture) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+        // The profile version moves in the same transaction as the changes it covers
+        transactionTemplate.executeWithoutResult(status -> applyUpdate(email, request, pictureHash));
+        // After commit, so a concurrent lookup cannot cache the old name again
+        if (request.getName() != null && !request.getName().trim().isEmpty()) {
+            principalCache.evict(email);
+        }
+        return ResponseEntity.ok().body(Map.of("status", "success"));
+    }
+
+    private void applyUpdate(String email, ProfileUpdateRequest request, String pictureHash) {
         User user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
+        profileVersions.bump(user.getId());
 
         // Update User Name if present
         if (request.getName() != null && !request.getName().trim().isEmpty()) {
@@ -36,9 +78,16 @@ public class UserController {
             userRepository.save(user);
         }
 
-        // Update Profile Picture if present
+        // Update Profile Picture if present; for uploaded images only the hash is kept
         if (request.getProfilePictureUrl() != null) {
-            user.setProfilePictureUrl(request.getProfilePictureUrl());
+            String picture = request.getProfilePictureUrl();
+            if (pictureHash != null) {
+                user.setProfilePictureHash(pictureHash);
+                user.setProfilePictureUrl(null);
+            } else {
+                user.setProfilePictureHash(null);
+                user.setProfilePictureUrl(picture.isBlank() ? null : picture);
+            }
             userRepository.save(user);
         }
 
@@ -64,7 +113,9 @@ public class UserController {
 
         // Sync skills based on the new preferred technologies
         profileService.syncSkillsFromProfile(user);
-
-        return ResponseEntity.ok().body("{\"status\": \"success\"}");
+        eventPublisher.publishEvent(new UserDataChangedEvent(user.getId()));
+        if (request.getCareerGoal() != null) {
+            eventPublisher.publishEvent(new SkillProfileChangedEvent(user.getId()));
+        }
     }
 }
@@ -0,0 +1,22 @@
+package com.skillpath.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ActivityBatchResponse {
+    private int accepted;
+    private int duplicates;
+    private int rejected;
+    private List<ItemResult> results;
+
+    @Data
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private String idempotencyKey;
+        private String status; // ACCEPTED, DUPLICATE, REJECTED
+    }
+}
@@ -0,0 +1,17 @@
+package com.skillpath.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class ActivityLogDTO {
+    private Long id;
+    private String activityType;
+    private String title;
+    private Integer xpEarned;
+    private String skillTag;
+    private Integer durationMinutes;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,12 @@
+package com.skillpath.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ActivityPageDTO {
+    private List<ActivityLogDTO> items;
+    private String nextCursor; // pass as ?before= to get the next page, null on the last page
+}
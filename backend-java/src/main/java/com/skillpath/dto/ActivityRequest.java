@@ -3,6 +3,8 @@ package com.skillpath.dto;
 
 import lombok.Data;
 
+import java.time.OffsetDateTime;
+
 @Data
 public class ActivityRequest {
     private String type; // COURSE, LAB, etc.
@@ -10,4 +12,6 @@ public class ActivityRequest {
     private Integer xp;
     private String skillTag;
     private Integer durationMinutes;
+    private String idempotencyKey; // client-generated, used to drop replays in batch uploads
+    private OffsetDateTime occurredAt; // when the client recorded it offline; defaults to arrival time
 }
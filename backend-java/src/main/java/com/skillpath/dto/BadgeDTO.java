@@ -0,0 +1,15 @@
+package com.skillpath.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class BadgeDTO {
+    private Long id;
+    private String name;
+    private String description;
+    private String icon;
+    private LocalDateTime awardedAt;
+}
@@ -1,19 +1,20 @@
 
 package com.skillpath.dto;
 
-import com.skillpath.model.User;
-import com.skillpath.model.UserSkill;
-import com.skillpath.model.ActivityLog;
-import com.skillpath.model.Badge;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import java.util.List;
 
 @Data
 public class FullProfileResponse {
+    @JsonIgnore
+    private Long userId;
+    @JsonIgnore
+    private long version; // profile version the view was built at
     private UserDTO user;
-    private List<UserSkill> skills;
-    private List<ActivityLog> recentActivity;
-    private List<Badge> badges;
+    private List<UserSkillDTO> skills;
+    private List<ActivityLogDTO> recentActivity;
+    private List<BadgeDTO> badges;
     private CareerReadinessDTO careerReadiness;
     private StatsDTO stats;
 
@@ -0,0 +1,13 @@
+package com.skillpath.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class HeatmapDayDTO {
+    private String date; // ISO yyyy-MM-dd
+    private Long minutes;
+    private Long xp;
+    private Long activities;
+}
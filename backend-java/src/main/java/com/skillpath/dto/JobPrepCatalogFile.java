@@ -0,0 +1,29 @@
+package com.skillpath.dto;
+
+import lombok.Data;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shape of job-prep-catalog.json.
+ */
+@Data
+public class JobPrepCatalogFile {
+    private List<Domain> domains = new ArrayList<>();
+
+    @Data
+    public static class Domain {
+        private String id;
+        private String title;
+        private String category; // Tech, Non-Tech, Aptitude
+        private List<Module> modules = new ArrayList<>();
+    }
+
+    @Data
+    public static class Module {
+        private String id;
+        private String title;
+        private String type; // learning, practice, ai-tutor
+        private String difficulty;
+    }
+}
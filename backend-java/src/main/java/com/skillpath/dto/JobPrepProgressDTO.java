@@ -0,0 +1,16 @@
+package com.skillpath.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class JobPrepProgressDTO {
+    private String domainId;
+    private String moduleId;
+    private Integer percentComplete;
+    private Integer bestScore;
+    private Boolean completed;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,12 @@
+package com.skillpath.dto;
+
+import lombok.Data;
+
+@Data
+public class JobPrepProgressRequest {
+    private String domainId;
+    private String moduleId;
+    private Integer percentComplete; // 0-100
+    private Integer score; // optional, e.g. quiz result
+    private Boolean completed;
+}
@@ -0,0 +1,13 @@
+package com.skillpath.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class LeaderboardEntryDTO {
+    private Integer rank;
+    private String name;
+    private Long score;
+    private boolean me;
+}
@@ -0,0 +1,14 @@
+package com.skillpath.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class LeaderboardPositionDTO {
+    private Integer rank; // null when the user has no XP on this board yet
+    private Long score;
+    private Integer totalRanked;
+    private List<LeaderboardEntryDTO> neighbours;
+}
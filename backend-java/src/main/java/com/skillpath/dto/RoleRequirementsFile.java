@@ -0,0 +1,29 @@
+package com.skillpath.dto;
+
+import lombok.Data;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shape of role-requirements.json.
+ */
+@Data
+public class RoleRequirementsFile {
+    private String defaultRole;
+    private List<Role> roles = new ArrayList<>();
+
+    @Data
+    public static class Role {
+        private String id;
+        private String title;
+        private List<String> keywords = new ArrayList<>(); // matched against Profile.careerGoal
+        private List<Requirement> skills = new ArrayList<>();
+    }
+
+    @Data
+    public static class Requirement {
+        private String name;
+        private double weight = 1;
+        private int target = 70; // score at which the skill counts as fully met
+    }
+}
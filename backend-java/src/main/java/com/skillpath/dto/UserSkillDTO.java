@@ -0,0 +1,18 @@
+package com.skillpath.dto;
+
+import com.skillpath.model.UserSkill;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class UserSkillDTO {
+    private Long id;
+    private String skillName;
+    private String category;
+    private Integer score;
+
+    public String getLevel() {
+        return UserSkill.levelFor(score);
+    }
+}
@@ -0,0 +1,96 @@
+package com.skillpath.metrics;
+
+import com.skillpath.security.BoundedPasswordEncoder;
+import com.skillpath.security.JwtUtil;
+import com.skillpath.service.ActivityIngestionService;
+import com.skillpath.service.IdempotencyIndex;
+import com.skillpath.service.JobPrepProgressService;
+import com.skillpath.service.LeaderboardService;
+import com.skillpath.service.PrincipalCache;
+import com.skillpath.service.ProfileViewCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the counters our caches, queues and write-behind workers already
+ * keep. Nothing here adds work to the hot paths: every meter reads an
+ * existing getter when the registry is scraped.
+ */
+@Component
+public class ApplicationMetrics implements MeterBinder {
+
+    private final JwtUtil jwtUtil;
+    private final PrincipalCache principalCache;
+    private final ProfileViewCache profileViewCache;
+    private final IdempotencyIndex idempotencyIndex;
+    private final ActivityIngestionService ingestionService;
+    private final JobPrepProgressService jobPrepProgressService;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final LeaderboardService leaderboardService;
+
+    public ApplicationMetrics(JwtUtil jwtUtil, PrincipalCache principalCache, ProfileViewCache profileViewCache,
+                              IdempotencyIndex idempotencyIndex, ActivityIngestionService ingestionService,
+                              JobPrepProgressService jobPrepProgressService, BoundedPasswordEncoder passwordEncoder,
+                              LeaderboardService leaderboardService) {
+        this.jwtUtil = jwtUtil;
+        this.principalCache = principalCache;
+        this.profileViewCache = profileViewCache;
+        this.idempotencyIndex = idempotencyIndex;
+        this.ingestionService = ingestionService;
+        this.jobPrepProgressService = jobPrepProgressService;
+        this.passwordEncoder = passwordEncoder;
+        this.leaderboardService = leaderboardService;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache(registry, "jwt.verified", jwtUtil, JwtUtil::getCacheHits, JwtUtil::getCacheMisses, JwtUtil::getCacheSize);
+        cache(registry, "principal", principalCache, PrincipalCache::getHits, PrincipalCache::getMisses, PrincipalCache::getSize);
+        cache(registry, "profile.view", profileViewCache, ProfileViewCache::getHits, ProfileViewCache::getMisses, ProfileViewCache::getSize);
+        Gauge.builder("cache.size", idempotencyIndex, IdempotencyIndex::size)
+                .tag("cache", "activity.idempotency").register(registry);
+
+        gauge(registry, "activity.ingest.queue.depth", ingestionService, ActivityIngestionService::getQueueDepth);
+        gauge(registry, "activity.ingest.queue.remaining", ingestionService, ActivityIngestionService::getQueueRemainingCapacity);
+        gauge(registry, "activity.ingest.batch.last.size", ingestionService, ActivityIngestionService::getLastBatchSize);
+        counter(registry, "activity.ingest.accepted", ingestionService, ActivityIngestionService::getAccepted);
+        counter(registry, "activity.ingest.rejected", ingestionService, ActivityIngestionService::getRejected);
+        counter(registry, "activity.ingest.written", ingestionService, ActivityIngestionService::getWritten);
+        counter(registry, "activity.ingest.failed", ingestionService, ActivityIngestionService::getFailed);
+        counter(registry, "activity.ingest.retries", ingestionService, ActivityIngestionService::getRetries);
+        counter(registry, "activity.ingest.batches", ingestionService, ActivityIngestionService::getBatches);
+
+        gauge(registry, "jobprep.progress.pending", jobPrepProgressService, JobPrepProgressService::getPendingCount);
+        counter(registry, "jobprep.progress.saves", jobPrepProgressService, JobPrepProgressService::getSaves);
+        counter(registry, "jobprep.progress.rows.written", jobPrepProgressService, JobPrepProgressService::getRowsWritten);
+        counter(registry, "jobprep.progress.flushes", jobPrepProgressService, JobPrepProgressService::getFlushes);
+        counter(registry, "jobprep.progress.failed", jobPrepProgressService, JobPrepProgressService::getFailed);
+
+        gauge(registry, "auth.password.queue.depth", passwordEncoder, BoundedPasswordEncoder::getQueueDepth);
+        gauge(registry, "auth.password.active", passwordEncoder, BoundedPasswordEncoder::getActiveCount);
+        counter(registry, "auth.password.rejected", passwordEncoder, BoundedPasswordEncoder::getRejectedCount);
+
+        gauge(registry, "leaderboard.global.size", leaderboardService, l -> l.getGlobal().size());
+        gauge(registry, "leaderboard.weekly.size", leaderboardService, l -> l.getWeekly().size());
+    }
+
+    private static <T> void cache(MeterRegistry registry, String name, T cache, ToDoubleFunction<T> hits,
+                                  ToDoubleFunction<T> misses, ToDoubleFunction<T> size) {
+        FunctionCounter.builder("cache.gets", cache, hits).tags("cache", name, "result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", cache, misses).tags("cache", name, "result", "miss").register(registry);
+        Gauge.builder("cache.size", cache, size).tag("cache", name).register(registry);
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, T source, ToDoubleFunction<T> value) {
+        Gauge.builder(name, source, value).register(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T source, ToDoubleFunction<T> value) {
+        FunctionCounter.builder(name, source, value).register(registry);
+    }
+}
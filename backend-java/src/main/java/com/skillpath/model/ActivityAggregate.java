@@ -0,0 +1,28 @@
+package com.skillpath.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Running totals of a user's activity log for one activity type. Maintained
+ * alongside every activity_logs insert so profile stats never scan the log.
+ */
+@Entity
+@Table(name = "activity_aggregates",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "activity_type"}))
+@Data
+public class ActivityAggregate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "activity_type", nullable = false)
+    private String activityType; // COURSE, LAB, QUIZ, PROJECT, OTHER
+
+    private Long activityCount = 0L;
+    private Long totalMinutes = 0L;
+    private Long totalXp = 0L;
+}
@@ -0,0 +1,39 @@
+package com.skillpath.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * An acknowledged activity that could not be written even on its own, kept
+ * with the last error so it can be inspected and replayed rather than lost.
+ */
+@Entity
+@Table(name = "activity_dead_letters")
+@Data
+public class ActivityDeadLetter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // Unbounded, since an oversized value may be why the event failed
+    @Lob
+    private String activityType;
+    @Lob
+    private String title;
+    private Integer xpEarned;
+    @Lob
+    private String skillTag;
+    private Integer durationMinutes;
+    private LocalDateTime timestamp;
+    @Lob
+    private String idempotencyKey;
+
+    @Lob
+    private String error;
+
+    private LocalDateTime failedAt;
+}
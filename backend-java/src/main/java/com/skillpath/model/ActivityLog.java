@@ -3,18 +3,24 @@ package com.skillpath.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "activity_logs")
+// Serves newest-first history reads and keyset paging per user
+@Table(name = "activity_logs",
+       indexes = @Index(name = "idx_activity_logs_user_ts_id", columnList = "user_id, timestamp, id"))
 @Data
 public class ActivityLog {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     private String activityType; // COURSE, LAB, QUIZ, PROJECT
@@ -0,0 +1,29 @@
+package com.skillpath.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * Stored readiness of a user for the role matching their career goal,
+ * recomputed whenever their skills or goal change.
+ */
+@Entity
+@Table(name = "career_readiness")
+@Data
+public class CareerReadiness {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    private String roleId;
+    private Integer score; // 0-100
+    private String readinessLevel;
+
+    @Column(length = 1000)
+    private String missingSkills; // comma-separated, largest gap first
+
+    @Column(length = 64)
+    private String matrixVersion; // role-requirements.json the row was computed from
+    private LocalDateTime computedAt;
+}
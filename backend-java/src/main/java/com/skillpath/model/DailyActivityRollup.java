@@ -0,0 +1,29 @@
+package com.skillpath.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDate;
+
+/**
+ * One user's activity totals for one calendar day. The unique (user_id,
+ * activity_date) index doubles as the range-scan path for heatmap reads.
+ */
+@Entity
+@Table(name = "daily_activity_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_rollup_user_date", columnNames = {"user_id", "activity_date"}))
+@Data
+public class DailyActivityRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    private Long activityCount = 0L;
+    private Long totalMinutes = 0L;
+    private Long totalXp = 0L;
+}
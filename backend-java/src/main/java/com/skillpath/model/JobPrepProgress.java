@@ -0,0 +1,34 @@
+package com.skillpath.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * How far a user has got through one job-prep module. Progress only moves
+ * forward: percentage and best score are kept at their maximum and a
+ * completed module stays completed.
+ */
+@Entity
+@Table(name = "job_prep_progress",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "domain_id", "module_id"}))
+@Data
+public class JobPrepProgress {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "domain_id", nullable = false)
+    private String domainId;
+
+    @Column(name = "module_id", nullable = false)
+    private String moduleId;
+
+    private Integer percentComplete = 0;
+    private Integer bestScore;
+    private Boolean completed = false;
+    private LocalDateTime updatedAt;
+}
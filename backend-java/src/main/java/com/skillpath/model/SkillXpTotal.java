@@ -0,0 +1,26 @@
+package com.skillpath.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Total XP a user has earned under one skill tag. Skill tags are stored
+ * lower-cased so "Java" and "java" land on the same row.
+ */
+@Entity
+@Table(name = "skill_xp_totals",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "skill_tag"}))
+@Data
+public class SkillXpTotal {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "skill_tag", nullable = false)
+    private String skillTag;
+
+    private Long totalXp = 0L;
+}
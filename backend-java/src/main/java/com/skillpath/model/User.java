@@ -3,6 +3,7 @@ package com.skillpath.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -21,9 +22,11 @@ public class User {
 
     private String fullName;
     
-    @Lob
-    @Column(length = 1000000) // Support large Base64 strings
+    @Column(length = 2048) // External avatar URL, uploaded images live in the media store
     private String profilePictureUrl;
+
+    @Column(length = 64)
+    private String profilePictureHash; // SHA-256 of the uploaded image in the media store
     
     // Gamification & Stats
     private Long xp = 0L;
@@ -31,6 +34,11 @@ public class User {
     private Integer streak = 0;
     private LocalDateTime joinDate = LocalDateTime.now();
     private LocalDateTime lastActive;
+    private LocalDate lastActivityDate; // last day counted towards the streak
+
+    // Bumped in SQL by every write that changes the profile view, never written through JPA
+    @Column(insertable = false, updatable = false, columnDefinition = "bigint default 0 not null")
+    private Long profileVersion;
 
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL)
     private Profile profile;
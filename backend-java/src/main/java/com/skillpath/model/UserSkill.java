@@ -3,6 +3,9 @@ package com.skillpath.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "user_skills")
@@ -12,16 +15,27 @@ public class UserSkill {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     private String skillName;
     private String category; // Programming, Networking, etc.
     private Integer score; // 0-100
 
+    // Decayed activity evidence as of evidenceAt, the score is derived from it
+    private Double evidence = 0.0;
+    private LocalDateTime evidenceAt;
+    private Integer scoreVersion; // formula version the score was computed with
+
     public String getLevel() {
-        if (score < 30) return "Beginner";
+        return levelFor(score);
+    }
+
+    public static String levelFor(Integer score) {
+        if (score == null || score < 30) return "Beginner";
         if (score < 70) return "Intermediate";
         return "Advanced";
     }
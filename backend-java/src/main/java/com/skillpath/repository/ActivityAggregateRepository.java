@@ -0,0 +1,11 @@
+package com.skillpath.repository;
+
+import com.skillpath.model.ActivityAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface ActivityAggregateRepository extends JpaRepository<ActivityAggregate, Long> {
+    List<ActivityAggregate> findByUserId(Long userId);
+}
@@ -1,12 +1,28 @@
 
 package com.skillpath.repository;
 
+import com.skillpath.dto.ActivityLogDTO;
 import com.skillpath.model.ActivityLog;
 import com.skillpath.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 
+@Transactional(readOnly = true)
 public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
-    List<ActivityLog> findTop10ByUserOrderByTimestampDesc(User user);
     Integer countByUser(User user);
+
+    @Query("select new com.skillpath.dto.ActivityLogDTO(a.id, a.activityType, a.title, a.xpEarned, a.skillTag, a.durationMinutes, a.timestamp) " +
+           "from ActivityLog a where a.user.id = :userId order by a.timestamp desc, a.id desc")
+    List<ActivityLogDTO> findLatestPage(Long userId, Pageable page);
+
+    // Seek past the last row of the previous page instead of counting an offset
+    @Query("select new com.skillpath.dto.ActivityLogDTO(a.id, a.activityType, a.title, a.xpEarned, a.skillTag, a.durationMinutes, a.timestamp) " +
+           "from ActivityLog a where a.user.id = :userId " +
+           "and (a.timestamp < :timestamp or (a.timestamp = :timestamp and a.id < :id)) " +
+           "order by a.timestamp desc, a.id desc")
+    List<ActivityLogDTO> findPageBefore(Long userId, LocalDateTime timestamp, Long id, Pageable page);
 }
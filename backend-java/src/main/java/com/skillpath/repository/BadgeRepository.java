@@ -1,11 +1,18 @@
-
 package com.skillpath.repository;
 
+import com.skillpath.dto.BadgeDTO;
 import com.skillpath.model.Badge;
 import com.skillpath.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
+@Transactional(readOnly = true)
 public interface BadgeRepository extends JpaRepository<Badge, Long> {
     List<Badge> findByUser(User user);
+
+    @Query("select new com.skillpath.dto.BadgeDTO(b.id, b.name, b.description, b.icon, b.awardedAt) " +
+           "from Badge b where b.user.id = :userId order by b.awardedAt, b.id")
+    List<BadgeDTO> findViewsByUserId(Long userId);
 }
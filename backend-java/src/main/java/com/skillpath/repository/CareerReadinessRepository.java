@@ -0,0 +1,7 @@
+package com.skillpath.repository;
+
+import com.skillpath.model.CareerReadiness;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CareerReadinessRepository extends JpaRepository<CareerReadiness, Long> {
+}
@@ -0,0 +1,12 @@
+package com.skillpath.repository;
+
+import com.skillpath.model.DailyActivityRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface DailyActivityRollupRepository extends JpaRepository<DailyActivityRollup, Long> {
+    List<DailyActivityRollup> findByUserIdAndActivityDateBetweenOrderByActivityDate(Long userId, LocalDate from, LocalDate to);
+}
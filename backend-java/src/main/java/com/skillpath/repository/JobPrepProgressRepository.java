@@ -0,0 +1,21 @@
+package com.skillpath.repository;
+
+import com.skillpath.dto.JobPrepProgressDTO;
+import com.skillpath.model.JobPrepProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+
+// Both lookups are served by the (user_id, domain_id, module_id) unique index
+@Transactional(readOnly = true)
+public interface JobPrepProgressRepository extends JpaRepository<JobPrepProgress, Long> {
+
+    @Query("select new com.skillpath.dto.JobPrepProgressDTO(p.domainId, p.moduleId, p.percentComplete, p.bestScore, p.completed, p.updatedAt) " +
+           "from JobPrepProgress p where p.userId = :userId order by p.domainId, p.moduleId")
+    List<JobPrepProgressDTO> findByUser(Long userId);
+
+    @Query("select new com.skillpath.dto.JobPrepProgressDTO(p.domainId, p.moduleId, p.percentComplete, p.bestScore, p.completed, p.updatedAt) " +
+           "from JobPrepProgress p where p.userId = :userId and p.domainId = :domainId order by p.moduleId")
+    List<JobPrepProgressDTO> findByUserAndDomain(Long userId, String domainId);
+}
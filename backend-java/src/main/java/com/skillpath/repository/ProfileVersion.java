@@ -0,0 +1,7 @@
+package com.skillpath.repository;
+
+/**
+ * A user's id and profile version, enough to answer a conditional profile
+ * read from the users index without loading anything else.
+ */
+public record ProfileVersion(Long userId, long version) {}
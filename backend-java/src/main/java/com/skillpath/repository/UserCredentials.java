@@ -0,0 +1,10 @@
+package com.skillpath.repository;
+
+/**
+ * Slim projection of a user row with just what authentication needs, so the
+ * security filter never pulls the profile picture blob into memory.
+ */
+public interface UserCredentials {
+    String getEmail();
+    String getPassword();
+}
@@ -0,0 +1,9 @@
+package com.skillpath.repository;
+
+/**
+ * Id and display name only, for listings such as leaderboards.
+ */
+public interface UserName {
+    Long getId();
+    String getFullName();
+}
@@ -2,8 +2,38 @@ package com.skillpath.repository;
 
 import com.skillpath.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+    // Authentication always reads the primary, so a changed password is never checked against a replica
+    @Transactional
+    Optional<UserCredentials> findCredentialsByEmail(String email);
+
+    // Checks made right before creating a user read the primary, where a just-registered email is already visible
+    @Transactional
+    boolean existsByEmail(String email);
+
+    @Transactional
+    @Query("select u from User u where u.email = :email")
+    Optional<User> findOnPrimaryByEmail(String email);
+
+    @Query("select u.id from User u where u.email = :email")
+    Optional<Long> findIdByEmail(String email);
+
+    @Query("select new com.skillpath.repository.ProfileVersion(u.id, u.profileVersion) from User u where u.email = :email")
+    Optional<ProfileVersion> findProfileVersionByEmail(String email);
+
+    List<UserName> findByIdIn(Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.email = :email")
+    int updatePasswordByEmail(String email, String password);
 }
@@ -1,11 +1,23 @@
-
 package com.skillpath.repository;
 
+import com.skillpath.dto.UserSkillDTO;
 import com.skillpath.model.UserSkill;
 import com.skillpath.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 
+@Transactional(readOnly = true)
 public interface UserSkillRepository extends JpaRepository<UserSkill, Long> {
     List<UserSkill> findByUser(User user);
+    List<UserSkill> findByUserIdIn(Collection<Long> userIds);
+    List<UserSkill> findByUserIdBetween(Long fromUserId, Long toUserId);
+    boolean existsByUserId(Long userId);
+
+    // Only the columns the profile view renders, the owning user is never loaded
+    @Query("select new com.skillpath.dto.UserSkillDTO(s.id, s.skillName, s.category, s.score) " +
+           "from UserSkill s where s.user.id = :userId order by s.id")
+    List<UserSkillDTO> findViewsByUserId(Long userId);
 }
@@ -0,0 +1,11 @@
+package com.skillpath.security;
+
+/**
+ * Thrown when the password hashing executor is saturated and a hash or
+ * verification cannot be started (or finished) within the allowed wait.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,77 @@
+package com.skillpath.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets for one route, one per client. A bucket holds {@code capacity}
+ * requests and refills evenly over {@code period}.
+ * <p>
+ * Each bucket is stored as the single time at which it will be full again, so
+ * taking a token is one compare-and-set with no lock. Buckets idle for a whole
+ * period are full, the same as a fresh one, so they are evicted after that
+ * long; {@code maxBuckets} bounds memory under a flood of distinct clients.
+ */
+final class RateLimit {
+
+    private final String name;
+    private final long periodNanos;
+    private final long intervalNanos;
+    private final Cache<String, AtomicLong> buckets;
+
+    RateLimit(String name, int capacity, Duration period, long maxBuckets) {
+        if (capacity <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit " + name + " needs a positive capacity and period");
+        }
+        this.name = name;
+        this.periodNanos = period.toNanos();
+        this.intervalNanos = periodNanos / capacity;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(period)
+                .build();
+    }
+
+    /** Parses {@code "<capacity>/<period>"}, for example {@code "10/1m"}. */
+    static RateLimit parse(String name, String spec, long maxBuckets) {
+        int slash = spec.indexOf('/');
+        if (slash < 0) {
+            throw new IllegalArgumentException("Rate limit " + name + " must look like 10/1m, was " + spec);
+        }
+        return new RateLimit(name, Integer.parseInt(spec.substring(0, slash).trim()),
+                DurationStyle.detectAndParse(spec.substring(slash + 1).trim()), maxBuckets);
+    }
+
+    /**
+     * Takes a token from the client's bucket.
+     *
+     * @return 0 if the request may proceed, otherwise the nanoseconds until it would
+     */
+    long tryAcquire(String client) {
+        long now = System.nanoTime();
+        AtomicLong full = buckets.get(client, k -> new AtomicLong(now));
+        while (true) {
+            long current = full.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long overdraft = next - now - periodNanos;
+            if (overdraft > 0) {
+                return overdraft;
+            }
+            if (full.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    long getBucketCount() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,131 @@
+package com.skillpath.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.skillpath.config.WireFormat;
+import com.skillpath.config.WireFormats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds how fast a single client can hit the expensive endpoints: sign-in and
+ * registration (BCrypt) per IP address, and activity logging and batch uploads
+ * (writes) per user, each on its own bucket.
+ * Runs after {@link JwtRequestFilter} so the user is known. Throttled requests
+ * get a 429 with {@code Retry-After} and never reach the controller.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record Route(String method, String path, boolean perUser, RateLimit limit, Counter throttled) {}
+
+    private final boolean enabled;
+    private final List<Route> routes;
+    private final Map<WireFormat, byte[]> rateLimitedBodies = new EnumMap<>(WireFormat.class);
+
+    public RateLimitFilter(@Value("${ratelimit.enabled:true}") boolean enabled,
+                           @Value("${ratelimit.login:10/1m}") String login,
+                           @Value("${ratelimit.register:5/10m}") String register,
+                           @Value("${ratelimit.activity-log:120/1m}") String activityLog,
+                           @Value("${ratelimit.activity-batch:10/10m}") String activityBatch,
+                           @Value("${ratelimit.max-buckets:100000}") long maxBuckets,
+                           MeterRegistry meterRegistry, WireFormats wireFormats) {
+        this.enabled = enabled;
+        this.routes = List.of(
+                route("POST", "/auth/login", false, RateLimit.parse("login", login, maxBuckets), meterRegistry),
+                route("POST", "/auth/register", false, RateLimit.parse("register", register, maxBuckets), meterRegistry),
+                route("POST", "/api/activity/log", true, RateLimit.parse("activity.log", activityLog, maxBuckets), meterRegistry),
+                // A batch carries up to activity.batch.max-items activities, so it gets a much smaller budget
+                route("POST", "/api/activity/batch", true, RateLimit.parse("activity.batch", activityBatch, maxBuckets), meterRegistry));
+        // Encoded once per format, like any other body, since the filter answers before a controller would
+        for (WireFormat format : WireFormat.values()) {
+            try {
+                rateLimitedBodies.put(format, wireFormats.mapper(format).writeValueAsBytes(Map.of("status", "rate_limited")));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not encode the rate-limit response", e);
+            }
+        }
+    }
+
+    private static Route route(String method, String path, boolean perUser, RateLimit limit, MeterRegistry meterRegistry) {
+        Counter throttled = Counter.builder("ratelimit.throttled")
+                .description("Requests rejected because the client's bucket was empty")
+                .tag("route", limit.getName())
+                .register(meterRegistry);
+        Gauge.builder("ratelimit.buckets", limit, RateLimit::getBucketCount)
+                .tag("route", limit.getName())
+                .register(meterRegistry);
+        return new Route(method, path, perUser, limit, throttled);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Route route = match(request);
+        if (route != null) {
+            long waitNanos = route.limit().tryAcquire(client(request, route.perUser()));
+            if (waitNanos > 0) {
+                route.throttled().increment();
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds(waitNanos)));
+                WireFormat format = WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+                byte[] body = rateLimitedBodies.get(format);
+                response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                response.setContentType(format.mediaType().toString());
+                response.setContentLength(body.length);
+                response.getOutputStream().write(body);
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private Route match(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getServletPath();
+        for (Route route : routes) {
+            if (route.method().equals(method) && route.path().equals(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    // Per-user routes fall back to the address when no valid token came with the request
+    private static String client(HttpServletRequest request, boolean perUser) {
+        if (perUser) {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+                return "user:" + auth.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,18 @@
+package com.skillpath.security;
+
+import java.util.Date;
+
+/**
+ * Result of a single signature check on a JWT. Everything the request filter
+ * needs is read out of the claims once, so callers never have to re-parse.
+ */
+public record VerifiedToken(String subject, Date issuedAt, Date expiration) {
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+    public long millisUntilExpiry() {
+        return expiration == null ? Long.MAX_VALUE : expiration.getTime() - System.currentTimeMillis();
+    }
+}
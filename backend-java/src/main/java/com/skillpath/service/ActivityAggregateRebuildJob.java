@@ -0,0 +1,129 @@
+package com.skillpath.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Recomputes activity_aggregates, daily_activity_rollups and skill_xp_totals
+ * from activity_logs.
+ * Users are split into id ranges that are rebuilt in parallel, each range in
+ * its own transaction, so live activity writes only ever wait on the range
+ * currently being rebuilt. Runs on startup when logs exist but a derived
+ * table is empty (first deploy of that table).
+ */
+@Component
+public class ActivityAggregateRebuildJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityAggregateRebuildJob.class);
+
+    private static final String DELETE_RANGE =
+            "DELETE FROM activity_aggregates WHERE user_id BETWEEN ? AND ?";
+
+    private static final String DELETE_DAILY_RANGE =
+            "DELETE FROM daily_activity_rollups WHERE user_id BETWEEN ? AND ?";
+
+    private static final String DELETE_SKILL_RANGE =
+            "DELETE FROM skill_xp_totals WHERE user_id BETWEEN ? AND ?";
+
+    private static final String REBUILD_RANGE =
+            "INSERT INTO activity_aggregates (user_id, activity_type, activity_count, total_minutes, total_xp) " +
+            "SELECT user_id, COALESCE(activity_type, 'OTHER'), COUNT(*), " +
+            "COALESCE(SUM(duration_minutes), 0), COALESCE(SUM(xp_earned), 0) " +
+            "FROM activity_logs WHERE user_id BETWEEN ? AND ? " +
+            "GROUP BY user_id, COALESCE(activity_type, 'OTHER')";
+
+    private static final String REBUILD_DAILY_RANGE =
+            "INSERT INTO daily_activity_rollups (user_id, activity_date, activity_count, total_minutes, total_xp) " +
+            "SELECT user_id, CAST(timestamp AS DATE), COUNT(*), " +
+            "COALESCE(SUM(duration_minutes), 0), COALESCE(SUM(xp_earned), 0) " +
+            "FROM activity_logs WHERE user_id BETWEEN ? AND ? " +
+            "GROUP BY user_id, CAST(timestamp AS DATE)";
+
+    private static final String REBUILD_SKILL_RANGE =
+            "INSERT INTO skill_xp_totals (user_id, skill_tag, total_xp) " +
+            "SELECT user_id, LOWER(TRIM(skill_tag)), COALESCE(SUM(xp_earned), 0) " +
+            "FROM activity_logs WHERE user_id BETWEEN ? AND ? AND TRIM(skill_tag) <> '' " +
+            "GROUP BY user_id, LOWER(TRIM(skill_tag))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int threads;
+    private final long chunkSize;
+
+    public ActivityAggregateRebuildJob(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                       @Value("${activity.aggregates.rebuild-threads:4}") int threads,
+                                       @Value("${activity.aggregates.rebuild-chunk-size:500}") long chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        Long logs = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM activity_logs", Long.class);
+        if (logs == null || logs == 0) return;
+        boolean skillTotalsMissing = isEmpty("skill_xp_totals") && !isEmpty("activity_logs WHERE TRIM(skill_tag) <> ''");
+        if (isEmpty("activity_aggregates") || isEmpty("daily_activity_rollups") || skillTotalsMissing) {
+            log.info("Activity rollup tables are empty, rebuilding from {} activity logs", logs);
+            rebuildAll();
+        }
+    }
+
+    private boolean isEmpty(String source) {
+        return !Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + source + ")", Boolean.class));
+    }
+
+    /** Rebuilds every user's aggregates and returns the number of id ranges processed. */
+    public int rebuildAll() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        if (maxId == null) return 0;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long from = 1; from <= maxId; from += chunkSize) {
+                long lo = from, hi = from + chunkSize - 1;
+                chunks.add(pool.submit(() -> rebuildRange(lo, hi)));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+            log.info("Rebuilt activity aggregates, daily rollups and skill totals for user ids 1..{} in {} chunks", maxId, chunks.size());
+            return chunks.size();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Aggregate rebuild interrupted", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Aggregate rebuild failed", e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void rebuildRange(long fromUserId, long toUserId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_RANGE, fromUserId, toUserId);
+            jdbcTemplate.update(REBUILD_RANGE, fromUserId, toUserId);
+            jdbcTemplate.update(DELETE_DAILY_RANGE, fromUserId, toUserId);
+            jdbcTemplate.update(REBUILD_DAILY_RANGE, fromUserId, toUserId);
+            jdbcTemplate.update(DELETE_SKILL_RANGE, fromUserId, toUserId);
+            jdbcTemplate.update(REBUILD_SKILL_RANGE, fromUserId, toUserId);
+        });
+    }
+}
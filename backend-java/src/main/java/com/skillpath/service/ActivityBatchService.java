@@ -0,0 +1,72 @@
+package com.skillpath.service;
+
+import com.skillpath.dto.ActivityBatchResponse;
+import com.skillpath.dto.ActivityBatchResponse.ItemResult;
+import com.skillpath.dto.ActivityRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synchronous bulk upload path for clients replaying activities recorded
+ * offline. Items carrying an idempotency key already seen for this user are
+ * reported as duplicates and not written; the rest go through
+ * {@link ActivityWriter} in a single transaction.
+ */
+@Service
+public class ActivityBatchService {
+
+    public static final String ACCEPTED = "ACCEPTED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String REJECTED = "REJECTED";
+
+    private final ActivityWriter activityWriter;
+    private final IdempotencyIndex idempotencyIndex;
+    private final Duration maxBackdate;
+
+    public ActivityBatchService(ActivityWriter activityWriter, IdempotencyIndex idempotencyIndex,
+                                @Value("${activity.max-backdate:30d}") Duration maxBackdate) {
+        this.activityWriter = activityWriter;
+        this.idempotencyIndex = idempotencyIndex;
+        this.maxBackdate = maxBackdate;
+    }
+
+    public ActivityBatchResponse upload(Long userId, List<ActivityRequest> requests) {
+        List<ItemResult> results = new ArrayList<>(requests.size());
+        List<ActivityEvent> events = new ArrayList<>(requests.size());
+        List<String> reservedKeys = new ArrayList<>();
+        int accepted = 0, duplicates = 0, rejected = 0;
+
+        for (int i = 0; i < requests.size(); i++) {
+            ActivityRequest request = requests.get(i);
+            String key = request == null ? null : request.getIdempotencyKey();
+
+            if (request == null || request.getType() == null) {
+                results.add(new ItemResult(i, key, REJECTED));
+                rejected++;
+                continue;
+            }
+            if (key != null && !idempotencyIndex.reserve(userId, key)) {
+                results.add(new ItemResult(i, key, DUPLICATE));
+                duplicates++;
+                continue;
+            }
+            if (key != null) reservedKeys.add(key);
+            events.add(ActivityEvent.from(userId, request, maxBackdate));
+            results.add(new ItemResult(i, key, ACCEPTED));
+            accepted++;
+        }
+
+        try {
+            activityWriter.write(events);
+        } catch (RuntimeException e) {
+            reservedKeys.forEach(key -> idempotencyIndex.release(userId, key));
+            throw e;
+        }
+
+        return new ActivityBatchResponse(accepted, duplicates, rejected, results);
+    }
+}
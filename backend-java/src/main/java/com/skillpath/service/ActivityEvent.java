@@ -0,0 +1,48 @@
+package com.skillpath.service;
+
+import com.skillpath.dto.ActivityRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Locale;
+
+/**
+ * An accepted activity waiting to be written. Captures the user id and the
+ * time the activity happened so the write can happen later on another thread,
+ * and the client's idempotency key so it can be released if that write fails.
+ */
+public record ActivityEvent(Long userId, String activityType, String title, int xpEarned,
+                            String skillTag, int durationMinutes, LocalDateTime timestamp,
+                            String idempotencyKey) {
+
+    /** Skill tag as used for per-skill totals, or null when the activity has none. */
+    public String normalizedSkillTag() {
+        if (skillTag == null || skillTag.isBlank()) return null;
+        return skillTag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The activity dated when the client says it happened, so offline uploads
+     * land on their own days. That time is clamped to the window between
+     * {@code maxBackdate} ago and now; without one, the arrival time is used.
+     */
+    public static ActivityEvent from(Long userId, ActivityRequest request, Duration maxBackdate) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime occurredAt = now;
+        if (request.getOccurredAt() != null) {
+            LocalDateTime claimed = request.getOccurredAt().atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            LocalDateTime earliest = now.minus(maxBackdate);
+            occurredAt = claimed.isAfter(now) ? now : claimed.isBefore(earliest) ? earliest : claimed;
+        }
+        return new ActivityEvent(
+                userId,
+                request.getType(),
+                request.getTitle(),
+                request.getXp() != null ? request.getXp() : 0,
+                request.getSkillTag(),
+                request.getDurationMinutes() != null ? request.getDurationMinutes() : 0,
+                occurredAt,
+                request.getIdempotencyKey());
+    }
+}
@@ -0,0 +1,225 @@
+package com.skillpath.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind pipeline for activity logging. Requests are put on a bounded
+ * queue and acknowledged immediately; a single background thread drains the
+ * queue and hands each batch to {@link ActivityWriter}. When the queue is
+ * full, {@link #submit} returns false so the caller can push back.
+ * <p>
+ * Queued events have already been acknowledged, so a failed batch is never
+ * dropped. It is retried with backoff; if it still fails it is split per user,
+ * then per event, so one bad row only holds back itself. Events that fail on
+ * their own are parked in activity_dead_letters, and their idempotency keys
+ * released so the client's retry is not taken for a duplicate.
+ */
+@Service
+public class ActivityIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityIngestionService.class);
+
+    private final ActivityWriter activityWriter;
+    private final IdempotencyIndex idempotencyIndex;
+    private final BlockingQueue<ActivityEvent> queue;
+    private final int maxBatchSize;
+    private final long pollMillis;
+    private final int retryAttempts;
+    private final long retryBackoffMillis;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong lastBatchSize = new AtomicLong();
+    private final AtomicLong maxObservedBatchSize = new AtomicLong();
+
+    public ActivityIngestionService(ActivityWriter activityWriter, IdempotencyIndex idempotencyIndex,
+                                    @Value("${activity.ingest.queue-capacity:10000}") int queueCapacity,
+                                    @Value("${activity.ingest.max-batch-size:500}") int maxBatchSize,
+                                    @Value("${activity.ingest.poll-millis:200}") long pollMillis,
+                                    @Value("${activity.ingest.retry-attempts:3}") int retryAttempts,
+                                    @Value("${activity.ingest.retry-backoff-millis:100}") long retryBackoffMillis) {
+        this.activityWriter = activityWriter;
+        this.idempotencyIndex = idempotencyIndex;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.pollMillis = pollMillis;
+        this.retryAttempts = retryAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        worker = new Thread(this::drainLoop, "activity-ingest");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public boolean submit(ActivityEvent event) {
+        if (queue.offer(event)) {
+            accepted.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    private void drainLoop() {
+        List<ActivityEvent> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ActivityEvent first = queue.poll(pollMillis, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<ActivityEvent> batch) {
+        if (writeWithRetry(batch) == null) {
+            written.add(batch.size());
+            batches.increment();
+            lastBatchSize.set(batch.size());
+            maxObservedBatchSize.accumulateAndGet(batch.size(), Math::max);
+            return;
+        }
+        log.warn("Batch of {} activity events failed after {} attempts, writing per user", batch.size(), retryAttempts);
+        Map<Long, List<ActivityEvent>> byUser = new LinkedHashMap<>();
+        batch.forEach(e -> byUser.computeIfAbsent(e.userId(), id -> new ArrayList<>()).add(e));
+        for (List<ActivityEvent> events : byUser.values()) {
+            if (write(events) == null) {
+                written.add(events.size());
+                continue;
+            }
+            for (ActivityEvent event : events) {
+                Exception error = write(List.of(event));
+                if (error == null) {
+                    written.increment();
+                } else {
+                    deadLetter(event, error);
+                }
+            }
+        }
+    }
+
+    // Returns the last error, or null once the batch is written
+    private Exception writeWithRetry(List<ActivityEvent> batch) {
+        long backoff = retryBackoffMillis;
+        Exception error = null;
+        for (int attempt = 1; attempt <= retryAttempts; attempt++) {
+            error = write(batch);
+            if (error == null || attempt == retryAttempts) break;
+            retries.increment();
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            backoff *= 2;
+        }
+        return error;
+    }
+
+    private Exception write(List<ActivityEvent> events) {
+        try {
+            activityWriter.write(events);
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private void deadLetter(ActivityEvent event, Exception error) {
+        failed.increment();
+        if (event.idempotencyKey() != null) {
+            idempotencyIndex.release(event.userId(), event.idempotencyKey());
+        }
+        log.error("Activity event for user {} could not be written, moving it to activity_dead_letters", event.userId(), error);
+        try {
+            activityWriter.deadLetter(List.of(event), error);
+        } catch (Exception e) {
+            log.error("Could not dead-letter activity event {}", event, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        // Anything the worker could not get to before the deadline is written here
+        List<ActivityEvent> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            flush(rest);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getQueueRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public long getLastBatchSize() {
+        return lastBatchSize.get();
+    }
+
+    public long getMaxBatchSize() {
+        return maxObservedBatchSize.get();
+    }
+}
@@ -0,0 +1,10 @@
+package com.skillpath.service;
+
+import java.util.List;
+
+/**
+ * Published by {@link ActivityWriter} for every group of activities it
+ * writes. In-memory read models apply it once the transaction commits; skill
+ * scoring applies it inside the transaction.
+ */
+public record ActivityRecordedEvent(List<ActivityEvent> events) {}
@@ -0,0 +1,198 @@
+package com.skillpath.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes a group of activity events in one transaction: a JDBC batch insert
+ * into activity_logs, one atomic XP increment per user, one streak step per
+ * (user, day), and one upsert per (user, activity type) aggregate, per
+ * (user, day) rollup and per (user, skill) XP total. Increments are done in SQL so concurrent writers never lose each
+ * other's updates. Skill scores are applied by {@link SkillScoringService} in
+ * the same transaction, while the XP update holds the users' row locks.
+ */
+@Service
+public class ActivityWriter {
+
+    private static final String INSERT_LOG =
+            "INSERT INTO activity_logs (user_id, activity_type, title, xp_earned, skill_tag, duration_minutes, timestamp) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // Level up every 1000 XP, never level down. Bumps the profile version for everything this transaction writes.
+    private static final String ADD_XP =
+            "UPDATE users SET xp = xp + ?, level = GREATEST(level, (xp + ?) / 1000 + 1), last_active = ?, " +
+            "profile_version = profile_version + 1 WHERE id = ?";
+
+    // Activities without a type are counted under OTHER
+    private static final String ADD_AGGREGATE =
+            "MERGE INTO activity_aggregates t " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT))) " +
+            "AS s(user_id, activity_type, activity_count, total_minutes, total_xp) " +
+            "ON t.user_id = s.user_id AND t.activity_type = s.activity_type " +
+            "WHEN MATCHED THEN UPDATE SET activity_count = t.activity_count + s.activity_count, " +
+            "total_minutes = t.total_minutes + s.total_minutes, total_xp = t.total_xp + s.total_xp " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, activity_type, activity_count, total_minutes, total_xp) " +
+            "VALUES (s.user_id, s.activity_type, s.activity_count, s.total_minutes, s.total_xp)";
+
+    private static final String ADD_DAILY =
+            "MERGE INTO daily_activity_rollups t " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT))) " +
+            "AS s(user_id, activity_date, activity_count, total_minutes, total_xp) " +
+            "ON t.user_id = s.user_id AND t.activity_date = s.activity_date " +
+            "WHEN MATCHED THEN UPDATE SET activity_count = t.activity_count + s.activity_count, " +
+            "total_minutes = t.total_minutes + s.total_minutes, total_xp = t.total_xp + s.total_xp " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, activity_date, activity_count, total_minutes, total_xp) " +
+            "VALUES (s.user_id, s.activity_date, s.activity_count, s.total_minutes, s.total_xp)";
+
+    private static final String ADD_SKILL_XP =
+            "MERGE INTO skill_xp_totals t " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR), CAST(? AS BIGINT))) AS s(user_id, skill_tag, total_xp) " +
+            "ON t.user_id = s.user_id AND t.skill_tag = s.skill_tag " +
+            "WHEN MATCHED THEN UPDATE SET total_xp = t.total_xp + s.total_xp " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, skill_tag, total_xp) VALUES (s.user_id, s.skill_tag, s.total_xp)";
+
+    // Extends the streak when the previous activity day was yesterday, restarts it otherwise.
+    // Days older than the last counted one (late offline uploads) leave the streak alone.
+    private static final String ADVANCE_STREAK =
+            "UPDATE users SET streak = CASE WHEN last_activity_date = ? THEN COALESCE(streak, 0) + 1 ELSE 1 END, " +
+            "last_activity_date = ? WHERE id = ? AND (last_activity_date IS NULL OR last_activity_date < ?)";
+
+    private static final String INSERT_DEAD_LETTER =
+            "INSERT INTO activity_dead_letters (user_id, activity_type, title, xp_earned, skill_tag, duration_minutes, timestamp, idempotency_key, error, failed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ActivityWriter(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public void write(List<ActivityEvent> events) {
+        if (events.isEmpty()) return;
+
+        List<Object[]> logRows = new ArrayList<>(events.size());
+        // Sorted, so concurrent writers and recomputes lock users in the same order
+        Map<Long, XpDelta> deltas = new TreeMap<>();
+        Map<AggregateKey, AggregateDelta> aggregates = new LinkedHashMap<>();
+        Map<DailyKey, AggregateDelta> daily = new LinkedHashMap<>();
+        Map<SkillKey, AggregateDelta> skills = new LinkedHashMap<>();
+        for (ActivityEvent e : events) {
+            logRows.add(new Object[] {
+                    e.userId(), e.activityType(), e.title(), e.xpEarned(),
+                    e.skillTag(), e.durationMinutes(), Timestamp.valueOf(e.timestamp())
+            });
+            deltas.computeIfAbsent(e.userId(), id -> new XpDelta()).add(e);
+            aggregates.computeIfAbsent(AggregateKey.of(e), k -> new AggregateDelta()).add(e);
+            daily.computeIfAbsent(DailyKey.of(e), k -> new AggregateDelta()).add(e);
+            if (e.normalizedSkillTag() != null) {
+                skills.computeIfAbsent(new SkillKey(e.userId(), e.normalizedSkillTag()), k -> new AggregateDelta()).add(e);
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_LOG, logRows);
+
+        List<Object[]> xpRows = new ArrayList<>(deltas.size());
+        deltas.forEach((userId, d) -> xpRows.add(new Object[] {
+                d.xp, d.xp, Timestamp.valueOf(d.lastActive), userId
+        }));
+        jdbcTemplate.batchUpdate(ADD_XP, xpRows);
+
+        List<Object[]> aggregateRows = new ArrayList<>(aggregates.size());
+        aggregates.forEach((k, d) -> aggregateRows.add(new Object[] {
+                k.userId(), k.activityType(), d.count, d.minutes, d.xp
+        }));
+        jdbcTemplate.batchUpdate(ADD_AGGREGATE, aggregateRows);
+
+        List<Object[]> dailyRows = new ArrayList<>(daily.size());
+        daily.forEach((k, d) -> dailyRows.add(new Object[] {
+                k.userId(), Date.valueOf(k.date()), d.count, d.minutes, d.xp
+        }));
+        jdbcTemplate.batchUpdate(ADD_DAILY, dailyRows);
+
+        // Applied in day order so a multi-day offline upload extends the streak once per day
+        List<Object[]> streakRows = daily.keySet().stream()
+                .sorted(Comparator.comparing(DailyKey::userId).thenComparing(DailyKey::date))
+                .map(k -> new Object[] {
+                        Date.valueOf(k.date().minusDays(1)), Date.valueOf(k.date()), k.userId(), Date.valueOf(k.date())
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(ADVANCE_STREAK, streakRows);
+
+        if (!skills.isEmpty()) {
+            List<Object[]> skillRows = new ArrayList<>(skills.size());
+            skills.forEach((k, d) -> skillRows.add(new Object[] { k.userId(), k.skillTag(), d.xp }));
+            jdbcTemplate.batchUpdate(ADD_SKILL_XP, skillRows);
+        }
+
+        eventPublisher.publishEvent(new ActivityRecordedEvent(List.copyOf(events)));
+        deltas.keySet().forEach(userId -> eventPublisher.publishEvent(new UserDataChangedEvent(userId)));
+    }
+
+    /** Parks events that failed every write attempt, with the error that stopped them. */
+    @Transactional
+    public void deadLetter(List<ActivityEvent> events, Exception error) {
+        String message = String.valueOf(error);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (ActivityEvent e : events) {
+            rows.add(new Object[] {
+                    e.userId(), e.activityType(), e.title(), e.xpEarned(),
+                    e.skillTag(), e.durationMinutes(), Timestamp.valueOf(e.timestamp()), e.idempotencyKey(), message, now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_DEAD_LETTER, rows);
+    }
+
+    private record AggregateKey(Long userId, String activityType) {
+        static AggregateKey of(ActivityEvent e) {
+            return new AggregateKey(e.userId(), e.activityType() != null ? e.activityType() : "OTHER");
+        }
+    }
+
+    private record DailyKey(Long userId, LocalDate date) {
+        static DailyKey of(ActivityEvent e) {
+            return new DailyKey(e.userId(), e.timestamp().toLocalDate());
+        }
+    }
+
+    private record SkillKey(Long userId, String skillTag) {}
+
+    private static class AggregateDelta {
+        long count;
+        long minutes;
+        long xp;
+
+        void add(ActivityEvent e) {
+            count++;
+            minutes += e.durationMinutes();
+            xp += e.xpEarned();
+        }
+    }
+
+    private static class XpDelta {
+        long xp;
+        LocalDateTime lastActive;
+
+        void add(ActivityEvent e) {
+            xp += e.xpEarned();
+            if (lastActive == null || e.timestamp().isAfter(lastActive)) {
+                lastActive = e.timestamp();
+            }
+        }
+    }
+}
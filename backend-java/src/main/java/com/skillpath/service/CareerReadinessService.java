@@ -0,0 +1,252 @@
+package com.skillpath.service;
+
+import com.skillpath.dto.FullProfileResponse;
+import com.skillpath.model.CareerReadiness;
+import com.skillpath.repository.CareerReadinessRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Career readiness per user, computed from the {@link RoleRequirementMatrix}
+ * and stored in career_readiness so profile reads never compute it inline.
+ * A user's row is refreshed after each {@link SkillProfileChangedEvent}; the
+ * whole table is recomputed by a fork-join job that splits the user id space
+ * until ranges are small enough to load in one pass. Each range is scanned
+ * without locks, and only users whose readiness actually moved are rewritten
+ * and have their profile version bumped, one short transaction each. That
+ * job runs on startup when rows are missing or were computed against another
+ * version of the matrix, and nightly to pick up anything missed.
+ */
+@Service
+public class CareerReadinessService {
+
+    private static final Logger log = LoggerFactory.getLogger(CareerReadinessService.class);
+
+    private static final String GOALS_RANGE =
+            "SELECT u.id, p.career_goal FROM users u LEFT JOIN profiles p ON p.user_id = u.id WHERE u.id BETWEEN ? AND ?";
+
+    private static final String SKILLS_RANGE =
+            "SELECT user_id, skill_name, score FROM user_skills WHERE user_id BETWEEN ? AND ? AND score IS NOT NULL";
+
+    private static final String STORED_RANGE =
+            "SELECT user_id, role_id, score, readiness_level, missing_skills, matrix_version FROM career_readiness " +
+            "WHERE user_id BETWEEN ? AND ?";
+
+    private static final String UPSERT_READINESS =
+            "MERGE INTO career_readiness t " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR), CAST(? AS INT), CAST(? AS VARCHAR), " +
+            "CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS TIMESTAMP))) " +
+            "AS s(user_id, role_id, score, readiness_level, missing_skills, matrix_version, computed_at) " +
+            "ON t.user_id = s.user_id " +
+            "WHEN MATCHED THEN UPDATE SET role_id = s.role_id, score = s.score, readiness_level = s.readiness_level, " +
+            "missing_skills = s.missing_skills, matrix_version = s.matrix_version, computed_at = s.computed_at " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, role_id, score, readiness_level, missing_skills, matrix_version, computed_at) " +
+            "VALUES (s.user_id, s.role_id, s.score, s.readiness_level, s.missing_skills, s.matrix_version, s.computed_at)";
+
+    private final RoleRequirementMatrix matrix;
+    private final CareerReadinessRepository readinessRepository;
+    private final ProfileViewCache profileViewCache;
+    private final ProfileVersions profileVersions;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransaction;
+    private final int parallelism;
+    private final long chunkSize;
+
+    public CareerReadinessService(RoleRequirementMatrix matrix, CareerReadinessRepository readinessRepository,
+                                  ProfileViewCache profileViewCache, ProfileVersions profileVersions, JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate, PlatformTransactionManager transactionManager,
+                                  @Value("${readiness.recompute-parallelism:4}") int parallelism,
+                                  @Value("${readiness.recompute-chunk-size:500}") long chunkSize) {
+        this.matrix = matrix;
+        this.readinessRepository = readinessRepository;
+        this.profileViewCache = profileViewCache;
+        this.profileVersions = profileVersions;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        // Listeners run after the triggering transaction has committed, so they need one of their own
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /** Stored readiness, computed on the spot only for users the batch job has not reached yet. */
+    public FullProfileResponse.CareerReadinessDTO get(Long userId, String careerGoal) {
+        CareerReadiness stored = readinessRepository.findById(userId)
+                .filter(r -> matrix.version().equals(r.getMatrixVersion()))
+                .orElse(null);
+        if (stored == null) {
+            // Read back in the writing transaction, a replica may not have the row yet
+            stored = newTransaction.execute(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_READINESS, evaluateRange(userId, userId));
+                return readinessRepository.findById(userId).orElseThrow();
+            });
+        }
+
+        FullProfileResponse.CareerReadinessDTO dto = new FullProfileResponse.CareerReadinessDTO();
+        dto.setScore(stored.getScore());
+        dto.setReadinessLevel(stored.getReadinessLevel());
+        dto.setTargetRole(careerGoal != null ? careerGoal : matrix.title(stored.getRoleId()));
+        dto.setMissingSkills(stored.getMissingSkills() == null || stored.getMissingSkills().isEmpty()
+                ? List.of()
+                : Arrays.asList(stored.getMissingSkills().split(",")));
+        return dto;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSkillProfileChanged(SkillProfileChangedEvent event) {
+        try {
+            newTransaction.executeWithoutResult(status -> refresh(event.userId()));
+            profileViewCache.invalidateUser(event.userId());
+        } catch (Exception e) {
+            log.error("Failed to update career readiness for user {}", event.userId(), e);
+        }
+    }
+
+    @EventListener
+    public void onSkillScoresRecomputed(SkillScoresRecomputedEvent event) {
+        recomputeAll();
+    }
+
+    @Order(3) // after skill scores are current
+    @EventListener(ApplicationReadyEvent.class)
+    public void recomputeIfStale() {
+        Boolean stale = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM users u LEFT JOIN career_readiness r ON r.user_id = u.id " +
+                "WHERE r.user_id IS NULL OR r.matrix_version <> ?)",
+                Boolean.class, matrix.version());
+        if (Boolean.TRUE.equals(stale)) {
+            log.info("Career readiness is missing or predates role matrix {}, recomputing", matrix.version());
+            recomputeAll();
+        }
+    }
+
+    @Scheduled(cron = "${readiness.recompute-cron:0 30 3 * * *}")
+    public void scheduledRecompute() {
+        recomputeAll();
+    }
+
+    /** Recomputes readiness for every user and returns the number of id ranges processed. */
+    public int recomputeAll() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        if (maxId == null) return 0;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            RecomputeTask root = new RecomputeTask(1, maxId);
+            pool.invoke(root);
+            int ranges = root.ranges();
+            log.info("Recomputed career readiness for user ids 1..{} in {} ranges, {} users changed",
+                    maxId, ranges, root.changed());
+            return ranges;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Rewrites the users in the range whose role, score, level or missing skills changed, and returns how many. */
+    private int recomputeRange(long fromUserId, long toUserId) {
+        Map<Long, List<Object>> stored = new HashMap<>();
+        jdbcTemplate.query(STORED_RANGE, rs -> {
+            stored.put(rs.getLong(1), Arrays.asList(rs.getString(2), rs.getInt(3), rs.getString(4), rs.getString(5), rs.getString(6)));
+        }, fromUserId, toUserId);
+
+        List<Long> changed = evaluateRange(fromUserId, toUserId).stream()
+                .filter(row -> !Arrays.asList(row).subList(1, 6).equals(stored.get((Long) row[0])))
+                .map(row -> (Long) row[0])
+                .sorted()
+                .toList();
+        for (Long userId : changed) {
+            transactionTemplate.executeWithoutResult(status -> refresh(userId));
+        }
+        return changed.size();
+    }
+
+    // Takes the user's lock first, as activity writes do, then recomputes under it
+    private void refresh(Long userId) {
+        profileVersions.bump(userId);
+        jdbcTemplate.batchUpdate(UPSERT_READINESS, evaluateRange(userId, userId));
+    }
+
+    /** Readiness rows for the range, in UPSERT_READINESS parameter order, without writing them. */
+    private List<Object[]> evaluateRange(long fromUserId, long toUserId) {
+        Map<Long, String> goals = new HashMap<>();
+        jdbcTemplate.query(GOALS_RANGE, rs -> { goals.put(rs.getLong(1), rs.getString(2)); }, fromUserId, toUserId);
+        if (goals.isEmpty()) return List.of();
+
+        Map<Long, double[]> vectors = new HashMap<>();
+        jdbcTemplate.query(SKILLS_RANGE, rs -> {
+            double[] vector = vectors.computeIfAbsent(rs.getLong(1), id -> matrix.newVector());
+            matrix.put(vector, rs.getString(2), rs.getInt(3));
+        }, fromUserId, toUserId);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(goals.size());
+        goals.forEach((userId, goal) -> {
+            double[] vector = vectors.getOrDefault(userId, matrix.newVector());
+            RoleRequirementMatrix.Readiness r = matrix.evaluate(goal, vector);
+            rows.add(new Object[] {
+                    userId, r.roleId(), r.score(), r.level(), String.join(",", r.missingSkills()), matrix.version(), now
+            });
+        });
+        return rows;
+    }
+
+    /** Splits an id range in half until it fits one chunk, then recomputes it. */
+    private class RecomputeTask extends RecursiveAction {
+        private final long from;
+        private final long to;
+        private int ranges;
+        private int changed;
+
+        RecomputeTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from + 1 <= chunkSize) {
+                changed = recomputeRange(from, to);
+                ranges = 1;
+                return;
+            }
+            long mid = from + (to - from) / 2;
+            RecomputeTask left = new RecomputeTask(from, mid);
+            RecomputeTask right = new RecomputeTask(mid + 1, to);
+            invokeAll(left, right);
+            ranges = left.ranges + right.ranges;
+            changed = left.changed + right.changed;
+        }
+
+        int ranges() {
+            return ranges;
+        }
+
+        int changed() {
+            return changed;
+        }
+    }
+}
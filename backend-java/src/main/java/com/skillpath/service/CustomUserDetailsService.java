@@ -1,8 +1,8 @@
 package com.skillpath.service;
 
-import com.skillpath.model.User;
 import com.skillpath.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -10,19 +10,34 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, PrincipalCache principalCache) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        PrincipalCache.CachedPrincipal principal = principalCache.get(email, key ->
+                userRepository.findCredentialsByEmail(key)
+                        .map(c -> new PrincipalCache.CachedPrincipal(c.getEmail(), c.getPassword())))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
         
-        return new org.springframework.security.core.userdetails.User(user.getEmail(), user.getPassword(), new ArrayList<>());
+        return new org.springframework.security.core.userdetails.User(principal.email(), principal.passwordHash(), new ArrayList<>());
+    }
+
+    /**
+     * Called by Spring Security after a successful login whose stored hash was
+     * made with a different BCrypt cost than the one configured now.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordByEmail(user.getUsername(), newPassword);
+        principalCache.evict(user.getUsername());
+        return new org.springframework.security.core.userdetails.User(user.getUsername(), newPassword, user.getAuthorities());
     }
 }
@@ -0,0 +1,44 @@
+package com.skillpath.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded index of recently seen client idempotency keys, scoped per user.
+ * Keys are reserved before a write and released again if the write fails,
+ * so a retry after an error is not mistaken for a duplicate.
+ */
+@Component
+public class IdempotencyIndex {
+
+    private final Cache<String, Boolean> seen;
+
+    public IdempotencyIndex(@Value("${activity.idempotency.max-keys:100000}") long maxKeys,
+                            @Value("${activity.idempotency.ttl:24h}") Duration ttl) {
+        this.seen = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /** Returns true if the key was not seen before and is now reserved. */
+    public boolean reserve(Long userId, String key) {
+        return seen.asMap().putIfAbsent(scoped(userId, key), Boolean.TRUE) == null;
+    }
+
+    public void release(Long userId, String key) {
+        seen.invalidate(scoped(userId, key));
+    }
+
+    public long size() {
+        return seen.estimatedSize();
+    }
+
+    private static String scoped(Long userId, String key) {
+        return userId + ":" + key;
+    }
+}
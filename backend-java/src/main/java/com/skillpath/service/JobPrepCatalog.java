@@ -0,0 +1,199 @@
+package com.skillpath.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillpath.config.WireFormat;
+import com.skillpath.config.WireFormats;
+import com.skillpath.dto.JobPrepCatalogFile;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Job-prep domains and modules, loaded from a JSON data file into an immutable
+ * snapshot whose endpoint bodies are serialized once, up front, in every
+ * {@link WireFormat}, each with its own strong ETag. The file's directory is watched and a changed catalog is
+ * swapped in atomically, so readers always see one complete version.
+ * <p>
+ * When the configured file does not exist the catalog bundled on the
+ * classpath is served until one is created.
+ */
+@Service
+public class JobPrepCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(JobPrepCatalog.class);
+    private static final String BUNDLED = "job-prep-catalog.json";
+
+    public record Encoded(byte[] body, String etag) {}
+
+    private record Snapshot(Map<WireFormat, Encoded> domains, Map<String, Map<WireFormat, Encoded>> modulesByDomain,
+                            Map<String, Set<String>> moduleIds) {}
+
+    private final ObjectMapper objectMapper;
+    private final WireFormats wireFormats;
+    private final Path catalogFile;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private WatchService watchService;
+
+    public JobPrepCatalog(ObjectMapper objectMapper, WireFormats wireFormats,
+                          @Value("${jobprep.catalog-file:./data/job-prep-catalog.json}") String catalogFile) {
+        this.objectMapper = objectMapper;
+        this.wireFormats = wireFormats;
+        this.catalogFile = Paths.get(catalogFile).toAbsolutePath().normalize();
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        reload();
+        Files.createDirectories(catalogFile.getParent());
+        watchService = FileSystems.getDefault().newWatchService();
+        catalogFile.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        Thread watcher = new Thread(this::watch, "job-prep-catalog-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        watchService.close();
+    }
+
+    public Encoded domains(WireFormat format) {
+        return current.get().domains().get(format);
+    }
+
+    /** Pre-encoded module list for a domain, or null if the catalog has no such domain. */
+    public Encoded modules(String domainId, WireFormat format) {
+        Map<WireFormat, Encoded> modules = current.get().modulesByDomain().get(domainId);
+        return modules != null ? modules.get(format) : null;
+    }
+
+    public boolean containsModule(String domainId, String moduleId) {
+        if (domainId == null || moduleId == null) return false;
+        Set<String> ids = current.get().moduleIds().get(domainId);
+        return ids != null && ids.contains(moduleId);
+    }
+
+    private byte[] encode(Object value, WireFormat format) {
+        try {
+            return wireFormats.mapper(format).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode job-prep catalog", e);
+        }
+    }
+
+    synchronized void reload() {
+        try (InputStream in = Files.exists(catalogFile)
+                ? Files.newInputStream(catalogFile)
+                : new ClassPathResource(BUNDLED).getInputStream()) {
+            JobPrepCatalogFile file = objectMapper.readValue(in, JobPrepCatalogFile.class);
+            current.set(build(file));
+            log.info("Loaded job-prep catalog with {} domains from {}", file.getDomains().size(),
+                    Files.exists(catalogFile) ? catalogFile : "classpath:" + BUNDLED);
+        } catch (IOException | RuntimeException e) {
+            if (current.get() == null) {
+                throw new IllegalStateException("Could not load job-prep catalog", e);
+            }
+            log.warn("Keeping previous job-prep catalog, reload failed", e);
+        }
+    }
+
+    private Snapshot build(JobPrepCatalogFile file) {
+        List<Map<String, Object>> summaries = file.getDomains().stream()
+                .map(d -> {
+                    Map<String, Object> m = new LinkedHashMap<>();
+                    m.put("id", d.getId());
+                    m.put("title", d.getTitle());
+                    m.put("category", d.getCategory());
+                    return m;
+                })
+                .toList();
+
+        Map<String, Map<WireFormat, Encoded>> modules = new HashMap<>();
+        Map<String, Set<String>> moduleIds = new HashMap<>();
+        for (JobPrepCatalogFile.Domain d : file.getDomains()) {
+            if (d.getModules().isEmpty()) {
+                modules.put(d.getId(), encoded(defaultModules(d.getId())));
+                moduleIds.put(d.getId(), Set.of(d.getId() + "-1"));
+            } else {
+                modules.put(d.getId(), encoded(d.getModules()));
+                moduleIds.put(d.getId(), d.getModules().stream().map(JobPrepCatalogFile.Module::getId).collect(Collectors.toUnmodifiableSet()));
+            }
+        }
+        return new Snapshot(encoded(summaries), Map.copyOf(modules), Map.copyOf(moduleIds));
+    }
+
+    /** Placeholder module list for domains that have no modules yet. */
+    private static List<Map<String, Object>> defaultModules(String domainId) {
+        return List.of(Map.of("id", domainId + "-1", "title", "Core Concepts", "type", "learning", "difficulty", "Easy"));
+    }
+
+    private Map<WireFormat, Encoded> encoded(Object value) {
+        Map<WireFormat, Encoded> encoded = new EnumMap<>(WireFormat.class);
+        for (WireFormat format : WireFormat.values()) {
+            byte[] body = encode(value, format);
+            encoded.put(format, new Encoded(body, etag(body)));
+        }
+        return encoded;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean relevant = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (catalogFile.getFileName().equals(event.context())) {
+                        relevant = true;
+                    }
+                }
+                key.reset();
+                if (relevant) {
+                    // Editors write in several steps, let the file settle before reading it
+                    Thread.sleep(200);
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // shutting down
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.skillpath.service;
+
+import com.skillpath.dto.JobPrepProgressDTO;
+import com.skillpath.dto.JobPrepProgressRequest;
+import com.skillpath.repository.JobPrepProgressRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Coalescing write-behind for job-prep progress. Every save is merged into
+ * the pending update for its (user, module) in memory, so a burst of pings
+ * from one page becomes a single row. A background thread flushes pending
+ * updates as one batched upsert every flush interval, or sooner once
+ * max-pending modules are waiting.
+ * <p>
+ * Merging is monotonic both here and in the upsert, so the order in which
+ * flushes land never matters and a flush that races a new save loses nothing.
+ * An entry leaves the pending map only once its row is written, and only if
+ * no newer save has been merged into it meanwhile.
+ */
+@Service
+public class JobPrepProgressService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobPrepProgressService.class);
+
+    private static final String UPSERT_PROGRESS =
+            "MERGE INTO job_prep_progress t " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS INT), CAST(? AS INT), " +
+            "CAST(? AS BOOLEAN), CAST(? AS TIMESTAMP))) " +
+            "AS s(user_id, domain_id, module_id, percent_complete, best_score, completed, updated_at) " +
+            "ON t.user_id = s.user_id AND t.domain_id = s.domain_id AND t.module_id = s.module_id " +
+            "WHEN MATCHED THEN UPDATE SET percent_complete = GREATEST(t.percent_complete, s.percent_complete), " +
+            "best_score = CASE WHEN t.best_score IS NULL THEN s.best_score WHEN s.best_score IS NULL THEN t.best_score " +
+            "ELSE GREATEST(t.best_score, s.best_score) END, " +
+            "completed = t.completed OR s.completed, updated_at = GREATEST(t.updated_at, s.updated_at) " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, domain_id, module_id, percent_complete, best_score, completed, updated_at) " +
+            "VALUES (s.user_id, s.domain_id, s.module_id, s.percent_complete, s.best_score, s.completed, s.updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobPrepProgressRepository progressRepository;
+    private final long flushMillis;
+    private final int maxPending;
+
+    private final ConcurrentHashMap<ProgressKey, PendingProgress> pending = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    private final LongAdder saves = new LongAdder();
+    private final LongAdder rowsWritten = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public JobPrepProgressService(JdbcTemplate jdbcTemplate, JobPrepProgressRepository progressRepository,
+                                  @Value("${jobprep.progress.flush-millis:1000}") long flushMillis,
+                                  @Value("${jobprep.progress.max-pending:5000}") int maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.progressRepository = progressRepository;
+        this.flushMillis = flushMillis;
+        this.maxPending = maxPending;
+    }
+
+    @PostConstruct
+    void start() {
+        flusher = new Thread(this::flushLoop, "job-prep-progress-flush");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public void save(Long userId, JobPrepProgressRequest request) {
+        int percent = Math.max(0, Math.min(100, request.getPercentComplete() != null ? request.getPercentComplete() : 0));
+        boolean completed = Boolean.TRUE.equals(request.getCompleted()) || percent == 100;
+        PendingProgress update = new PendingProgress(completed ? 100 : percent, request.getScore(), completed, LocalDateTime.now());
+
+        pending.merge(new ProgressKey(userId, request.getDomainId(), request.getModuleId()), update, PendingProgress::merge);
+        saves.increment();
+        if (pending.size() >= maxPending) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    /** Stored progress with any not yet flushed saves applied on top, so users read their own writes. */
+    public List<JobPrepProgressDTO> findByUser(Long userId) {
+        return overlay(userId, null, progressRepository.findByUser(userId));
+    }
+
+    public List<JobPrepProgressDTO> findByUserAndDomain(Long userId, String domainId) {
+        return overlay(userId, domainId, progressRepository.findByUserAndDomain(userId, domainId));
+    }
+
+    private List<JobPrepProgressDTO> overlay(Long userId, String domainId, List<JobPrepProgressDTO> stored) {
+        Map<ProgressKey, PendingProgress> merged = new LinkedHashMap<>();
+        for (JobPrepProgressDTO dto : stored) {
+            merged.put(new ProgressKey(userId, dto.getDomainId(), dto.getModuleId()),
+                    new PendingProgress(dto.getPercentComplete(), dto.getBestScore(), dto.getCompleted(), dto.getUpdatedAt()));
+        }
+        // The pending map is bounded by max-pending and drained every interval, so a scan is cheap
+        pending.forEach((key, update) -> {
+            if (key.userId().equals(userId) && (domainId == null || domainId.equals(key.domainId()))) {
+                merged.merge(key, update, PendingProgress::merge);
+            }
+        });
+
+        return merged.entrySet().stream()
+                .sorted(Map.Entry.<ProgressKey, PendingProgress>comparingByKey(
+                        Comparator.comparing(ProgressKey::domainId).thenComparing(ProgressKey::moduleId)))
+                .map(e -> new JobPrepProgressDTO(e.getKey().domainId(), e.getKey().moduleId(), e.getValue().percent(),
+                        e.getValue().bestScore(), e.getValue().completed(), e.getValue().updatedAt()))
+                .toList();
+    }
+
+    private void flushLoop() {
+        while (running) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushMillis));
+            flush();
+        }
+    }
+
+    synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        // Entries stay in pending until written, so reads keep seeing them and a failed write loses nothing
+        Map<ProgressKey, PendingProgress> snapshot = new LinkedHashMap<>(pending);
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_PROGRESS, snapshot.entrySet().stream().map(JobPrepProgressService::row).toList());
+            written(snapshot);
+            flushes.increment();
+        } catch (Exception e) {
+            log.error("Failed to write {} job-prep progress rows, retrying them one by one", snapshot.size(), e);
+            flushRows(snapshot);
+        }
+    }
+
+    // Rows that still fail stay pending and are retried on the next flush
+    private void flushRows(Map<ProgressKey, PendingProgress> snapshot) {
+        for (Map.Entry<ProgressKey, PendingProgress> entry : snapshot.entrySet()) {
+            try {
+                jdbcTemplate.update(UPSERT_PROGRESS, row(entry));
+                written(Map.of(entry.getKey(), entry.getValue()));
+            } catch (Exception e) {
+                failed.increment();
+                log.error("Failed to write job-prep progress for {}", entry.getKey(), e);
+            }
+        }
+    }
+
+    // A save merged in since the snapshot replaced the value, so that entry stays for the next flush
+    private void written(Map<ProgressKey, PendingProgress> rows) {
+        rows.forEach(pending::remove);
+        rowsWritten.add(rows.size());
+    }
+
+    private static Object[] row(Map.Entry<ProgressKey, PendingProgress> entry) {
+        ProgressKey key = entry.getKey();
+        PendingProgress p = entry.getValue();
+        return new Object[] {
+                key.userId(), key.domainId(), key.moduleId(), p.percent(), p.bestScore(),
+                p.completed(), Timestamp.valueOf(p.updatedAt())
+        };
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        flush();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getSaves() {
+        return saves.sum();
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten.sum();
+    }
+
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    private record ProgressKey(Long userId, String domainId, String moduleId) {}
+
+    private record PendingProgress(int percent, Integer bestScore, boolean completed, LocalDateTime updatedAt) {
+        PendingProgress merge(PendingProgress other) {
+            Integer score = bestScore == null ? other.bestScore
+                    : other.bestScore == null ? bestScore : Math.max(bestScore, other.bestScore);
+            LocalDateTime latest = updatedAt.isAfter(other.updatedAt) ? updatedAt : other.updatedAt;
+            return new PendingProgress(Math.max(percent, other.percent), score, completed || other.completed, latest);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.skillpath.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory XP leaderboards: all-time, current week, and one per skill tag.
+ * Boards are updated from {@link ActivityRecordedEvent} after each write
+ * commits. On startup they are loaded from compact tables that the activity
+ * writer keeps up to date transactionally (users.xp, daily_activity_rollups,
+ * skill_xp_totals), so a restart never has to scan activity_logs.
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RankedScoreBoard global = new RankedScoreBoard();
+    private final Map<String, RankedScoreBoard> skills = new ConcurrentHashMap<>();
+    private volatile RankedScoreBoard weekly = new RankedScoreBoard();
+    private volatile LocalDateTime weekStart = currentWeekStart();
+
+    public LeaderboardService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Order // after the rollup backfill, which may populate the tables loaded here
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        jdbcTemplate.query("SELECT id, xp FROM users WHERE xp > 0",
+                rs -> { global.set(rs.getLong(1), rs.getLong(2)); });
+
+        RankedScoreBoard week = new RankedScoreBoard();
+        LocalDateTime start = currentWeekStart();
+        jdbcTemplate.query("SELECT user_id, SUM(total_xp) FROM daily_activity_rollups " +
+                        "WHERE activity_date >= ? GROUP BY user_id",
+                rs -> { week.set(rs.getLong(1), rs.getLong(2)); }, Date.valueOf(start.toLocalDate()));
+        weekStart = start;
+        weekly = week;
+
+        jdbcTemplate.query("SELECT user_id, skill_tag, total_xp FROM skill_xp_totals",
+                rs -> { skillBoard(rs.getString(2)).set(rs.getLong(1), rs.getLong(3)); });
+
+        log.info("Loaded leaderboards: {} ranked users, {} this week, {} skills",
+                global.size(), weekly.size(), skills.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivityRecorded(ActivityRecordedEvent recorded) {
+        for (ActivityEvent e : recorded.events()) {
+            if (e.xpEarned() == 0) continue;
+            global.add(e.userId(), e.xpEarned());
+            if (!e.timestamp().isBefore(weekStart)) {
+                weekly.add(e.userId(), e.xpEarned());
+            }
+            if (e.normalizedSkillTag() != null) {
+                skillBoard(e.normalizedSkillTag()).add(e.userId(), e.xpEarned());
+            }
+        }
+    }
+
+    /** Starts a new weekly window by swapping in an empty board, no rebuild needed. */
+    @Scheduled(cron = "${leaderboard.weekly-reset-cron:0 0 0 * * MON}")
+    public void resetWeekly() {
+        weekStart = currentWeekStart();
+        weekly = new RankedScoreBoard();
+        log.info("Weekly leaderboard reset for week starting {}", weekStart.toLocalDate());
+    }
+
+    public RankedScoreBoard getGlobal() {
+        return global;
+    }
+
+    public RankedScoreBoard getWeekly() {
+        return weekly;
+    }
+
+    /** Board for a skill tag, or null if nobody has earned XP with it yet. */
+    public RankedScoreBoard getSkill(String skillTag) {
+        return skills.get(skillTag.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private RankedScoreBoard skillBoard(String normalizedTag) {
+        return skills.computeIfAbsent(normalizedTag, t -> new RankedScoreBoard());
+    }
+
+    private static LocalDateTime currentWeekStart() {
+        return LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+    }
+}
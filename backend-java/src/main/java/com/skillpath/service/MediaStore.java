@@ -0,0 +1,228 @@
+package com.skillpath.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed, on-disk store for uploaded images. Files are named by
+ * the SHA-256 of their bytes, so identical uploads are stored once and a
+ * stored file never changes. Thumbnails for the configured sizes are
+ * generated at upload time and stored next to the original.
+ * <p>
+ * Stored files are served without authentication, so only PNG, JPEG, GIF and
+ * WebP bytes are accepted, and images are measured from their header before
+ * being decoded so a small file cannot expand into a huge bitmap.
+ */
+@Service
+public class MediaStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaStore.class);
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern IMAGE_DATA_URL =
+            Pattern.compile("^data:image/(png|jpeg|gif|webp);base64,", Pattern.CASE_INSENSITIVE);
+    private static final String OCTET_STREAM = "application/octet-stream";
+
+    private final Path root;
+    private final List<Integer> thumbnailSizes;
+    private final long maxBytes;
+    private final long maxPixels;
+    private final String publicBaseUrl;
+
+    public MediaStore(@Value("${media.storage-dir:./data/media}") String storageDir,
+                      @Value("${media.thumbnail-sizes:64,256}") List<Integer> thumbnailSizes,
+                      @Value("${media.max-bytes:5242880}") long maxBytes,
+                      @Value("${media.max-pixels:25000000}") long maxPixels,
+                      @Value("${media.public-base-url:http://localhost:8000}") String publicBaseUrl) {
+        this.root = Paths.get(storageDir).toAbsolutePath().normalize();
+        this.thumbnailSizes = List.copyOf(thumbnailSizes);
+        this.maxBytes = maxBytes;
+        this.maxPixels = maxPixels;
+        this.publicBaseUrl = publicBaseUrl;
+    }
+
+    /** Any data URL; those that are not a supported image are rejected by {@link #storeDataUrl}, never kept as links. */
+    public static boolean isDataUrl(String value) {
+        return value != null && value.regionMatches(true, 0, "data:", 0, 5);
+    }
+
+    /**
+     * Decodes a {@code data:image/(png|jpeg|gif|webp);base64,} URL and stores its bytes.
+     *
+     * @return the content hash of the stored image
+     * @throws IllegalArgumentException if the value is not a base64 image data URL, or the image is not acceptable
+     */
+    public String storeDataUrl(String dataUrl) {
+        if (!IMAGE_DATA_URL.matcher(dataUrl).lookingAt()) {
+            throw new IllegalArgumentException("Expected a base64 PNG, JPEG, GIF or WebP data URL");
+        }
+        int comma = dataUrl.indexOf(',');
+        byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(dataUrl.substring(comma + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid base64 image data", e);
+        }
+        return store(bytes);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bytes are too large, not a supported image, or exceed the pixel limit
+     */
+    public String store(byte[] bytes) {
+        if (bytes.length > maxBytes) {
+            throw new IllegalArgumentException("Image exceeds " + maxBytes + " bytes");
+        }
+        if (OCTET_STREAM.equals(sniff(bytes, bytes.length))) {
+            throw new IllegalArgumentException("Only PNG, JPEG, GIF and WebP images are accepted");
+        }
+        String hash = sha256(bytes);
+        Path original = pathFor(hash);
+        if (Files.exists(original)) {
+            return hash;
+        }
+        BufferedImage source = decode(hash, bytes);
+        try {
+            Files.createDirectories(original.getParent());
+            writeAtomically(original, bytes);
+            if (source != null) {
+                writeThumbnails(hash, source);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store image " + hash, e);
+        }
+        return hash;
+    }
+
+    /** Resolves a stored file, falling back to the original when no thumbnail of that size exists. */
+    public Optional<Path> resolve(String hash, Integer size) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        if (size != null && thumbnailSizes.contains(size)) {
+            Path thumb = thumbnailPath(hash, size);
+            if (Files.exists(thumb)) return Optional.of(thumb);
+        }
+        Path original = pathFor(hash);
+        return Files.exists(original) ? Optional.of(original) : Optional.empty();
+    }
+
+    public String urlFor(String hash) {
+        return publicBaseUrl + "/api/media/" + hash;
+    }
+
+    /** Sniffs the image type from the file header; thumbnails are always PNG. */
+    public String contentType(Path file) {
+        byte[] head = new byte[12];
+        int n;
+        try (InputStream in = Files.newInputStream(file)) {
+            n = in.readNBytes(head, 0, head.length);
+        } catch (IOException e) {
+            return OCTET_STREAM;
+        }
+        return sniff(head, n);
+    }
+
+    private static String sniff(byte[] head, int n) {
+        if (n >= 4 && (head[0] & 0xFF) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') return "image/png";
+        if (n >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) return "image/jpeg";
+        if (n >= 4 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F' && head[3] == '8') return "image/gif";
+        if (n >= 12 && head[0] == 'R' && head[1] == 'I' && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') return "image/webp";
+        return OCTET_STREAM;
+    }
+
+    /**
+     * Decodes the first frame for thumbnails once the header's dimensions are
+     * within {@code maxPixels}, or returns null when ImageIO cannot read the format.
+     */
+    private BufferedImage decode(String hash, byte[] bytes) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                log.debug("No thumbnails for {}: format not readable by ImageIO", hash);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IllegalArgumentException("Image exceeds " + maxPixels + " pixels");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unreadable image data", e);
+        }
+    }
+
+    private void writeThumbnails(String hash, BufferedImage source) throws IOException {
+        for (int size : thumbnailSizes) {
+            BufferedImage thumb = scale(source, size);
+            Path target = thumbnailPath(hash, size);
+            Path tmp = Files.createTempFile(target.getParent(), hash, ".tmp");
+            ImageIO.write(thumb, "png", tmp.toFile());
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int maxEdge) {
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int w = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int h = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, w, h, null);
+        g.dispose();
+        return out;
+    }
+
+    private void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        Files.write(tmp, bytes);
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path pathFor(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path thumbnailPath(String hash, int size) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash + "-" + size);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
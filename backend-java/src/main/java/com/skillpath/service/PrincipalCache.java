@@ -0,0 +1,65 @@
+package com.skillpath.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of authentication principals keyed by email.
+ * Entries are immutable snapshots; Spring Security erases passwords on the
+ * UserDetails it hands out, so a fresh UserDetails is built from the snapshot
+ * on every lookup.
+ */
+@Component
+public class PrincipalCache {
+
+    public record CachedPrincipal(String email, String passwordHash) {}
+
+    private final Cache<String, CachedPrincipal> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PrincipalCache(@Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<CachedPrincipal> get(String email, Function<String, Optional<CachedPrincipal>> loader) {
+        CachedPrincipal cached = cache.getIfPresent(email);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        Optional<CachedPrincipal> loaded = loader.apply(email);
+        loaded.ifPresent(p -> cache.put(email, p));
+        return loaded;
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,51 @@
+package com.skillpath.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves Base64 profile pictures that were stored inline in users.profile_picture_url
+ * into the {@link MediaStore}, leaving only the content hash on the row. Users are
+ * migrated one at a time so only a single image is held in memory.
+ */
+@Component
+public class ProfilePictureMigrationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfilePictureMigrationJob.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MediaStore mediaStore;
+
+    public ProfilePictureMigrationJob(JdbcTemplate jdbcTemplate, MediaStore mediaStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mediaStore = mediaStore;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateInlinePictures() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE profile_picture_url LIKE 'data:%'", Long.class);
+        if (ids.isEmpty()) return;
+
+        int migrated = 0;
+        for (Long id : ids) {
+            String dataUrl = jdbcTemplate.queryForObject(
+                    "SELECT profile_picture_url FROM users WHERE id = ?", String.class, id);
+            try {
+                String hash = mediaStore.storeDataUrl(dataUrl);
+                jdbcTemplate.update(
+                        "UPDATE users SET profile_picture_hash = ?, profile_picture_url = NULL WHERE id = ?", hash, id);
+                migrated++;
+            } catch (RuntimeException e) {
+                log.warn("Could not migrate profile picture of user {}", id, e);
+            }
+        }
+        log.info("Moved {} of {} inline profile pictures to the media store", migrated, ids.size());
+    }
+}
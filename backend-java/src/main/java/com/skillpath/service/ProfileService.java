@@ -4,43 +4,117 @@ package com.skillpath.service;
 import com.skillpath.dto.FullProfileResponse;
 import com.skillpath.model.*;
 import com.skillpath.repository.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class ProfileService {
 
+    private static final Pageable RECENT_ACTIVITY = PageRequest.of(0, 10);
+
     private final UserRepository userRepository;
     private final UserSkillRepository userSkillRepository;
     private final ActivityLogRepository activityLogRepository;
     private final BadgeRepository badgeRepository;
+    private final ActivityAggregateRepository activityAggregateRepository;
+    private final ProfileViewCache profileViewCache;
+    private final MediaStore mediaStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SkillScoringService skillScoringService;
+    private final CareerReadinessService careerReadinessService;
+    private final Timer viewTimer;
+    private final Timer buildTimer;
+    private final Counter notModified;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transactionTemplate;
 
     public ProfileService(UserRepository userRepository, UserSkillRepository userSkillRepository, 
-                          ActivityLogRepository activityLogRepository, BadgeRepository badgeRepository) {
+                          ActivityLogRepository activityLogRepository, BadgeRepository badgeRepository,
+                          ActivityAggregateRepository activityAggregateRepository, ProfileViewCache profileViewCache, ApplicationEventPublisher eventPublisher,
+                          MediaStore mediaStore, SkillScoringService skillScoringService,
+                          CareerReadinessService careerReadinessService, PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
         this.userSkillRepository = userSkillRepository;
         this.activityLogRepository = activityLogRepository;
         this.badgeRepository = badgeRepository;
+        this.activityAggregateRepository = activityAggregateRepository;
+        this.profileViewCache = profileViewCache;
+        this.eventPublisher = eventPublisher;
+        this.mediaStore = mediaStore;
+        this.skillScoringService = skillScoringService;
+        this.careerReadinessService = careerReadinessService;
+        // view covers cache hits, build only the misses that assemble a profile from the DB
+        this.viewTimer = Timer.builder("profile.full.view").publishPercentileHistogram().register(meterRegistry);
+        this.buildTimer = Timer.builder("profile.full.build").publishPercentileHistogram().register(meterRegistry);
+        this.notModified = Counter.builder("profile.full.not.modified")
+                .description("Conditional profile reads answered from the version alone")
+                .register(meterRegistry);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public ProfileVersion currentVersion(String email) {
+        return userRepository.findProfileVersionByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    public void recordNotModified() {
+        notModified.increment();
     }
 
     public FullProfileResponse getFullProfile(String email) {
+        return getFullProfile(email, currentVersion(email));
+    }
+
+    /**
+     * The cached view, rebuilt if it predates {@code version}. The view carries
+     * the version its own data was read at, which is what its ETag must use.
+     */
+    public FullProfileResponse getFullProfile(String email, ProfileVersion version) {
+        return viewTimer.record(() -> profileViewCache.get(version.userId(), version.version(),
+                id -> buildTimer.record(() -> buildFullProfile(email))));
+    }
+
+    private FullProfileResponse buildFullProfile(String email) {
         User user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
         
-        // Ensure skills exist based on profile data
-        if (userSkillRepository.findByUser(user).isEmpty()) {
+        // Ensure skills exist based on profile data, written to the primary before the snapshot below
+        if (!userSkillRepository.existsByUserId(user.getId())) {
             syncSkillsFromProfile(user);
         }
 
+        // Version and data are read in one read-only transaction, so from one replica at one point in time
+        return readOnlyTransaction.execute(status -> assemble(email));
+    }
+
+    private FullProfileResponse assemble(String email) {
+        ProfileVersion version = currentVersion(email);
+        User user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
+
         FullProfileResponse response = new FullProfileResponse();
+        response.setUserId(user.getId());
+        response.setVersion(version.version());
         
         // Map User
         FullProfileResponse.UserDTO userDTO = new FullProfileResponse.UserDTO();
         userDTO.setName(user.getFullName());
         userDTO.setEmail(user.getEmail());
-        userDTO.setProfilePictureUrl(user.getProfilePictureUrl());
+        userDTO.setProfilePictureUrl(user.getProfilePictureHash() != null
+                ? mediaStore.urlFor(user.getProfilePictureHash())
+                : user.getProfilePictureUrl());
         userDTO.setXp(user.getXp());
         userDTO.setLevel(user.getLevel());
         userDTO.setStreak(user.getStreak());
@@ -55,79 +129,69 @@ public class ProfileService {
         }
         response.setUser(userDTO);
 
-        // Fetch Related Data
-        List<ActivityLog> allLogs = activityLogRepository.findTop10ByUserOrderByTimestampDesc(user);
-        response.setRecentActivity(allLogs);
-        response.setSkills(userSkillRepository.findByUser(user));
-        response.setBadges(badgeRepository.findByUser(user));
+        // Fetch Related Data as projections, so neither the SQL nor the JSON drags the owning user along
+        response.setRecentActivity(activityLogRepository.findLatestPage(user.getId(), RECENT_ACTIVITY));
+        response.setSkills(userSkillRepository.findViewsByUserId(user.getId()));
+        response.setBadges(badgeRepository.findViewsByUserId(user.getId()));
 
-        // Calculate Real-Time Stats
+        // Stats come from the per-type aggregates maintained on every activity write
         FullProfileResponse.StatsDTO stats = new FullProfileResponse.StatsDTO();
-        
-        // Sum durationMinutes from all logs (in a real app, optimize this with a custom JPQL query)
-        // Here we just estimate based on XP for demo if duration is missing, or use duration if present
-        int totalMinutes = allLogs.stream()
-            .mapToInt(log -> log.getDurationMinutes() != null ? log.getDurationMinutes() : (log.getXpEarned() / 2)) 
-            .sum();
+        long totalMinutes = 0;
+        int courses = 0, labs = 0;
+        for (ActivityAggregate agg : activityAggregateRepository.findByUserId(user.getId())) {
+            totalMinutes += agg.getTotalMinutes();
+            if ("COURSE".equals(agg.getActivityType())) courses = agg.getActivityCount().intValue();
+            if ("LAB".equals(agg.getActivityType())) labs = agg.getActivityCount().intValue();
+        }
             
-        stats.setTotalLearningHours(totalMinutes / 60);
-        stats.setCoursesCompleted(activityLogRepository.countByUser(user));
-        stats.setLabsCompleted(0); // Add repository method for specific counts if needed
+        stats.setTotalLearningHours((int) (totalMinutes / 60));
+        stats.setCoursesCompleted(courses);
+        stats.setLabsCompleted(labs);
         response.setStats(stats);
 
         // Calculate Career Readiness
-        response.setCareerReadiness(calculateReadiness(user));
+        response.setCareerReadiness(careerReadinessService.get(user.getId(),
+                user.getProfile() != null ? user.getProfile().getCareerGoal() : null));
 
         return response;
     }
 
+    /**
+     * Adds a skill for each preferred technology the user does not have yet.
+     * The new skills and their recompute, which also bumps the profile
+     * version, commit together.
+     */
     public void syncSkillsFromProfile(User user) {
         if (user.getProfile() == null) return;
-        
+        transactionTemplate.executeWithoutResult(status -> addPreferredSkills(user));
+    }
+
+    private void addPreferredSkills(User user) {
         List<String> preferredTech = user.getProfile().getPreferredTech();
         if (preferredTech == null || preferredTech.isEmpty()) {
             preferredTech = List.of("Communication", "Problem Solving");
         }
 
-        List<UserSkill> existingSkills = userSkillRepository.findByUser(user);
-        
+        Set<String> existing = userSkillRepository.findByUser(user).stream()
+                .map(s -> SkillScoringService.normalize(s.getSkillName()))
+                .collect(Collectors.toSet());
+
+        List<UserSkill> added = new ArrayList<>();
         for (String tech : preferredTech) {
-            boolean exists = existingSkills.stream()
-                .anyMatch(s -> s.getSkillName().equalsIgnoreCase(tech));
-            
-            if (!exists) {
+            if (existing.add(SkillScoringService.normalize(tech))) {
                 UserSkill s = new UserSkill();
                 s.setUser(user);
                 s.setSkillName(tech.substring(0, 1).toUpperCase() + tech.substring(1)); 
                 s.setCategory("Programming"); 
-                s.setScore(10); 
-                userSkillRepository.save(s);
+                s.setScore(SkillScoringModel.BASE_SCORE);
+                added.add(s);
             }
         }
-    }
-
-    private FullProfileResponse.CareerReadinessDTO calculateReadiness(User user) {
-        FullProfileResponse.CareerReadinessDTO dto = new FullProfileResponse.CareerReadinessDTO();
-        
-        List<UserSkill> skills = userSkillRepository.findByUser(user);
-        double avgSkill = skills.stream().mapToInt(UserSkill::getScore).average().orElse(0);
-        
-        int score = (int) ((avgSkill * 0.6) + (user.getLevel() * 2));
-        if (score > 100) score = 100;
-
-        dto.setScore(score);
-        dto.setTargetRole(user.getProfile() != null ? user.getProfile().getCareerGoal() : "General Tech");
-        
-        if (score < 40) dto.setReadinessLevel("Low");
-        else if (score < 70) dto.setReadinessLevel("Moderate");
-        else if (score < 90) dto.setReadinessLevel("High");
-        else dto.setReadinessLevel("Job Ready");
-
-        List<String> missing = new ArrayList<>();
-        if (avgSkill < 50) missing.add("Advanced Concepts");
-        if (user.getXp() < 5000) missing.add("System Design");
-        dto.setMissingSkills(missing);
-
-        return dto;
+        if (!added.isEmpty()) {
+            userSkillRepository.saveAll(added);
+            // Credit activity that was tagged with these skills before they were added
+            skillScoringService.recomputeUser(user.getId());
+            eventPublisher.publishEvent(new UserDataChangedEvent(user.getId()));
+        }
     }
 }
@@ -0,0 +1,31 @@
+package com.skillpath.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-user counter that changes whenever something shown on the profile does,
+ * so a conditional read can be answered from one indexed lookup.
+ * <p>
+ * Versions are bumped in the transaction that changes the data, either here
+ * or in the writer's own UPDATE of users (XP, streak resets, skill
+ * recomputes), so a version becomes visible together with its data and never
+ * before or after it. The bump also takes the user's row lock, which orders
+ * concurrent writers to the same profile.
+ */
+@Component
+public class ProfileVersions {
+
+    private static final String BUMP = "UPDATE users SET profile_version = profile_version + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProfileVersions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Joins the caller's transaction, which must be the one writing the profile data. */
+    public void bump(Long userId) {
+        jdbcTemplate.update(BUMP, userId);
+    }
+}
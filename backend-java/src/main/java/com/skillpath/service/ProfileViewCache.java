@@ -0,0 +1,77 @@
+package com.skillpath.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skillpath.dto.FullProfileResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Precomputed {@link FullProfileResponse} per user, keyed by user id so
+ * write paths, which only know the id, can drop entries directly. Entries
+ * are dropped when a {@link UserDataChangedEvent} for the user commits, so
+ * repeated dashboard loads between writes are served without touching the DB.
+ */
+@Component
+public class ProfileViewCache {
+
+    private final Cache<Long, FullProfileResponse> views;
+
+    public ProfileViewCache(@Value("${profile.view-cache.max-size:5000}") long maxSize,
+                            @Value("${profile.view-cache.ttl:10m}") Duration ttl) {
+        this.views = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The cached view, rebuilt once if missing or older than {@code version}.
+     * A build that read just before a write committed can land after that
+     * write's invalidation, so the stamp decides which of two concurrent builds
+     * is kept; a rebuild from a lagging replica may still be older and is
+     * returned as it is.
+     * <p>
+     * The build runs outside the cache's own compute, since a first build syncs
+     * skills and so invalidates this same user.
+     */
+    public FullProfileResponse get(Long userId, long version, Function<Long, FullProfileResponse> loader) {
+        FullProfileResponse view = views.getIfPresent(userId);
+        if (view != null && view.getVersion() >= version) {
+            return view;
+        }
+        FullProfileResponse built = loader.apply(userId);
+        return views.asMap().merge(userId, built,
+                (cached, fresh) -> fresh.getVersion() >= cached.getVersion() ? fresh : cached);
+    }
+
+    public void invalidateAll() {
+        views.invalidateAll();
+    }
+
+    public void invalidateUser(Long userId) {
+        views.invalidate(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        invalidateUser(event.userId());
+    }
+
+    public long getHits() {
+        return views.stats().hitCount();
+    }
+
+    public long getMisses() {
+        return views.stats().missCount();
+    }
+
+    public long getSize() {
+        return views.estimatedSize();
+    }
+}
@@ -0,0 +1,237 @@
+package com.skillpath.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Scores ordered highest first (ties broken by lower user id), backed by a
+ * size-augmented treap. Score updates, rank lookups and positional access are
+ * O(log n); top-K and neighbour queries are O(log n + K).
+ */
+public class RankedScoreBoard {
+
+    public record Entry(int rank, long userId, long score) {}
+
+    private static final class Node {
+        final long userId;
+        final long score;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        int size = 1;
+        Node left, right;
+
+        Node(long userId, long score) {
+            this.userId = userId;
+            this.score = score;
+        }
+    }
+
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root;
+
+    public void add(long userId, long delta) {
+        lock.writeLock().lock();
+        try {
+            Long old = scores.get(userId);
+            put(userId, old, (old == null ? 0 : old) + delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void set(long userId, long score) {
+        lock.writeLock().lock();
+        try {
+            put(userId, scores.get(userId), score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 1-based rank of the user, or 0 if the user is not on the board. */
+    public int rank(long userId) {
+        lock.readLock().lock();
+        try {
+            Long score = scores.get(userId);
+            return score == null ? 0 : countBefore(userId, score) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Long score(long userId) {
+        lock.readLock().lock();
+        try {
+            return scores.get(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Entry> top(int k) {
+        lock.readLock().lock();
+        try {
+            List<Entry> out = new ArrayList<>(Math.min(k, scores.size()));
+            Deque<Node> stack = new ArrayDeque<>();
+            Node n = root;
+            while ((n != null || !stack.isEmpty()) && out.size() < k) {
+                while (n != null) {
+                    stack.push(n);
+                    n = n.left;
+                }
+                n = stack.pop();
+                out.add(new Entry(out.size() + 1, n.userId, n.score));
+                n = n.right;
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The user and up to {@code radius} entries on either side, or empty if the user is not ranked. */
+    public List<Entry> around(long userId, int radius) {
+        lock.readLock().lock();
+        try {
+            Long score = scores.get(userId);
+            if (score == null) return List.of();
+            int index = countBefore(userId, score);
+            int from = Math.max(0, index - radius);
+            int to = Math.min(scores.size() - 1, index + radius);
+            List<Entry> out = new ArrayList<>(to - from + 1);
+            for (int i = from; i <= to; i++) {
+                Node n = select(i);
+                out.add(new Entry(i + 1, n.userId, n.score));
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(long userId, Long oldScore, long newScore) {
+        if (oldScore != null) {
+            root = remove(root, userId, oldScore);
+        }
+        root = insert(root, new Node(userId, newScore));
+        scores.put(userId, newScore);
+    }
+
+    // Negative when (scoreA, idA) ranks before (scoreB, idB)
+    private static int compare(long scoreA, long idA, long scoreB, long idB) {
+        if (scoreA != scoreB) return scoreA > scoreB ? -1 : 1;
+        return Long.compare(idA, idB);
+    }
+
+    private static int size(Node n) {
+        return n == null ? 0 : n.size;
+    }
+
+    private static void update(Node n) {
+        n.size = 1 + size(n.left) + size(n.right);
+    }
+
+    private static Node insert(Node n, Node item) {
+        if (n == null) return item;
+        if (item.priority > n.priority) {
+            Node[] parts = split(n, item.score, item.userId);
+            item.left = parts[0];
+            item.right = parts[1];
+            update(item);
+            return item;
+        }
+        if (compare(item.score, item.userId, n.score, n.userId) < 0) {
+            n.left = insert(n.left, item);
+        } else {
+            n.right = insert(n.right, item);
+        }
+        update(n);
+        return n;
+    }
+
+    private static Node remove(Node n, long userId, long score) {
+        if (n == null) return null;
+        int c = compare(score, userId, n.score, n.userId);
+        if (c == 0) return merge(n.left, n.right);
+        if (c < 0) n.left = remove(n.left, userId, score);
+        else n.right = remove(n.right, userId, score);
+        update(n);
+        return n;
+    }
+
+    // Splits into nodes ranking before (score, userId) and the rest
+    private static Node[] split(Node n, long score, long userId) {
+        if (n == null) return new Node[] { null, null };
+        if (compare(n.score, n.userId, score, userId) < 0) {
+            Node[] parts = split(n.right, score, userId);
+            n.right = parts[0];
+            update(n);
+            return new Node[] { n, parts[1] };
+        }
+        Node[] parts = split(n.left, score, userId);
+        n.left = parts[1];
+        update(n);
+        return new Node[] { parts[0], n };
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private int countBefore(long userId, long score) {
+        int count = 0;
+        Node n = root;
+        while (n != null) {
+            int c = compare(score, userId, n.score, n.userId);
+            if (c == 0) return count + size(n.left);
+            if (c < 0) {
+                n = n.left;
+            } else {
+                count += size(n.left) + 1;
+                n = n.right;
+            }
+        }
+        return count;
+    }
+
+    private Node select(int index) {
+        Node n = root;
+        while (n != null) {
+            int leftSize = size(n.left);
+            if (index < leftSize) {
+                n = n.left;
+            } else if (index == leftSize) {
+                return n;
+            } else {
+                index -= leftSize + 1;
+                n = n.right;
+            }
+        }
+        throw new IndexOutOfBoundsException();
+    }
+}
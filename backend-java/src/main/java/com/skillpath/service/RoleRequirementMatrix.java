@@ -0,0 +1,146 @@
+package com.skillpath.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillpath.dto.RoleRequirementsFile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Weighted skill requirements per career role, from role-requirements.json.
+ * Every skill named by any role gets a column, so a user's skills reduce to
+ * one small score vector and readiness for a role is a weighted sum over the
+ * role's columns. The version is a digest of the file, so stored readiness
+ * can tell when it was computed against different requirements.
+ */
+@Component
+public class RoleRequirementMatrix {
+
+    private static final String RESOURCE = "role-requirements.json";
+    private static final int MAX_MISSING = 5;
+
+    public record Readiness(String roleId, int score, String level, List<String> missingSkills) {}
+
+    private record Role(String id, String title, List<String> keywords,
+                        int[] columns, double[] weights, double[] targets, double totalWeight) {}
+
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final List<String> skillNames = new ArrayList<>();
+    private final List<Role> roles = new ArrayList<>();
+    private final Role defaultRole;
+    private final String version;
+
+    public RoleRequirementMatrix(ObjectMapper objectMapper) throws IOException {
+        byte[] raw;
+        try (InputStream in = new ClassPathResource(RESOURCE).getInputStream()) {
+            raw = in.readAllBytes();
+        }
+        RoleRequirementsFile file = objectMapper.readValue(raw, RoleRequirementsFile.class);
+        for (RoleRequirementsFile.Role r : file.getRoles()) {
+            List<RoleRequirementsFile.Requirement> reqs = r.getSkills();
+            int[] cols = new int[reqs.size()];
+            double[] weights = new double[reqs.size()];
+            double[] targets = new double[reqs.size()];
+            double total = 0;
+            for (int i = 0; i < reqs.size(); i++) {
+                cols[i] = column(reqs.get(i).getName());
+                weights[i] = reqs.get(i).getWeight();
+                targets[i] = reqs.get(i).getTarget();
+                total += weights[i];
+            }
+            List<String> keywords = r.getKeywords().stream().map(k -> k.toLowerCase(Locale.ROOT)).toList();
+            roles.add(new Role(r.getId(), r.getTitle(), keywords, cols, weights, targets, total));
+        }
+        this.defaultRole = roles.stream().filter(r -> r.id().equals(file.getDefaultRole())).findFirst()
+                .orElseThrow(() -> new IllegalStateException("Default role " + file.getDefaultRole() + " is not defined"));
+        this.version = digest(raw);
+    }
+
+    private int column(String skillName) {
+        return columns.computeIfAbsent(SkillScoringService.normalize(skillName), k -> {
+            skillNames.add(skillName);
+            return skillNames.size() - 1;
+        });
+    }
+
+    public String version() {
+        return version;
+    }
+
+    /** Empty skill vector, one slot per skill any role asks for. */
+    public double[] newVector() {
+        return new double[skillNames.size()];
+    }
+
+    /** Records a user skill in the vector; skills no role asks for are ignored. */
+    public void put(double[] vector, String skillName, int score) {
+        Integer col = columns.get(SkillScoringService.normalize(skillName));
+        if (col != null) {
+            vector[col] = Math.max(vector[col], score);
+        }
+    }
+
+    public Readiness evaluate(String careerGoal, double[] vector) {
+        Role role = roleFor(careerGoal);
+        double met = 0;
+        double[] gaps = new double[role.columns().length];
+        for (int i = 0; i < role.columns().length; i++) {
+            double fraction = Math.min(1.0, vector[role.columns()[i]] / role.targets()[i]);
+            met += role.weights()[i] * fraction;
+            gaps[i] = role.weights()[i] * (1 - fraction);
+        }
+        int score = role.totalWeight() == 0 ? 0 : (int) Math.round(100 * met / role.totalWeight());
+
+        // Largest weighted gap first
+        Integer[] order = new Integer[gaps.length];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (a, b) -> Double.compare(gaps[b], gaps[a]));
+        List<String> missing = new ArrayList<>();
+        for (int i : order) {
+            if (gaps[i] <= 0 || missing.size() == MAX_MISSING) break;
+            missing.add(skillNames.get(role.columns()[i]));
+        }
+        return new Readiness(role.id(), score, level(score), missing);
+    }
+
+    public String title(String roleId) {
+        return roles.stream().filter(r -> r.id().equals(roleId)).map(Role::title).findFirst().orElse(defaultRole.title());
+    }
+
+    private Role roleFor(String careerGoal) {
+        if (careerGoal == null || careerGoal.isBlank()) return defaultRole;
+        String goal = careerGoal.toLowerCase(Locale.ROOT);
+        for (Role r : roles) {
+            if (goal.contains(r.id()) || r.keywords().stream().anyMatch(goal::contains)) {
+                return r;
+            }
+        }
+        return defaultRole;
+    }
+
+    private static String level(int score) {
+        if (score < 40) return "Low";
+        if (score < 70) return "Moderate";
+        if (score < 90) return "High";
+        return "Job Ready";
+    }
+
+    private static String digest(byte[] raw) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(raw), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
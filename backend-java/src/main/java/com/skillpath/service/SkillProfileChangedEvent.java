@@ -0,0 +1,7 @@
+package com.skillpath.service;
+
+/**
+ * Published when a user's skill scores or career goal change, which is
+ * everything their career readiness depends on.
+ */
+public record SkillProfileChangedEvent(Long userId) {}
@@ -0,0 +1,7 @@
+package com.skillpath.service;
+
+/**
+ * Published after every user's skill scores were recomputed, e.g. because
+ * the scoring formula changed.
+ */
+public record SkillScoresRecomputedEvent() {}
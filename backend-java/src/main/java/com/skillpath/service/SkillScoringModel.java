@@ -0,0 +1,79 @@
+package com.skillpath.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Turns activity into skill scores. Every activity tagged with a skill adds
+ * its XP as evidence, and evidence halves every half-life, so recent practice
+ * counts more than old practice. The score rises from the base score towards
+ * 100 as evidence grows, with {@code saturation-xp} of fresh evidence worth
+ * about two thirds of the way.
+ * <p>
+ * Because decay is exponential, evidence can be carried forward one activity
+ * at a time and gives the same result as replaying the full history. Scores
+ * are taken at the time they are written and re-taken nightly by
+ * {@link SkillScoringService#decayScores()}, so a skill that is no longer
+ * practised keeps fading even though its evidence is not touched. Bump
+ * {@code version} whenever the formula or its settings change so stored
+ * scores are recomputed on the next start.
+ */
+@Component
+public class SkillScoringModel {
+
+    public static final int BASE_SCORE = 10;
+
+    private final double halfLifeMillis;
+    private final double saturationXp;
+    private final int version;
+
+    public SkillScoringModel(@Value("${skills.scoring.half-life:P30D}") Duration halfLife,
+                             @Value("${skills.scoring.saturation-xp:500}") double saturationXp,
+                             @Value("${skills.scoring.version:1}") int version) {
+        this.halfLifeMillis = halfLife.toMillis();
+        this.saturationXp = saturationXp;
+        this.version = version;
+    }
+
+    /** Decayed XP evidence as of a point in time. */
+    public record Evidence(double value, LocalDateTime at) {
+        public static final Evidence NONE = new Evidence(0, null);
+    }
+
+    /** Adds an activity worth {@code xp} that happened at {@code when}. */
+    public Evidence accumulate(Evidence evidence, LocalDateTime when, int xp) {
+        double weight = Math.max(0, xp);
+        if (evidence.at() == null) {
+            return new Evidence(evidence.value() + weight, when);
+        }
+        if (when.isAfter(evidence.at())) {
+            return new Evidence(evidence.value() * decayFactor(evidence.at(), when) + weight, when);
+        }
+        // Late arrivals are decayed forward to the newer evidence
+        return new Evidence(evidence.value() + weight * decayFactor(when, evidence.at()), evidence.at());
+    }
+
+    /** The score {@code evidence} is worth at {@code now}, decayed since it was last added to. */
+    public int scoreAt(Evidence evidence, LocalDateTime now) {
+        if (evidence.at() == null || !now.isAfter(evidence.at())) {
+            return score(evidence.value());
+        }
+        return score(evidence.value() * decayFactor(evidence.at(), now));
+    }
+
+    private double decayFactor(LocalDateTime from, LocalDateTime to) {
+        return Math.pow(0.5, Duration.between(from, to).toMillis() / halfLifeMillis);
+    }
+
+    public int score(double evidence) {
+        double gained = (100 - BASE_SCORE) * (1 - Math.exp(-evidence / saturationXp));
+        return (int) Math.min(100, Math.round(BASE_SCORE + gained));
+    }
+
+    public int version() {
+        return version;
+    }
+}
@@ -0,0 +1,282 @@
+package com.skillpath.service;
+
+import com.skillpath.model.UserSkill;
+import com.skillpath.repository.UserRepository;
+import com.skillpath.repository.UserSkillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Keeps {@link UserSkill} scores in line with what users actually do. Each
+ * batch of activity is folded into the matching skills (by
+ * case-insensitive skill name) in one saveAll; skills that do not exist yet
+ * are created from the tag. {@link #recomputeAll()} replays activity_logs in
+ * parallel user-id chunks and runs on startup when stored scores were
+ * computed with an older {@link SkillScoringModel#version()}.
+ * <p>
+ * Both paths hold the user's row lock in users while they read and write
+ * skills: activity is applied inside the write transaction, after its XP
+ * update has locked the user, and a recompute locks the user before reading
+ * the log. A recompute therefore sees a batch either entirely (its log rows
+ * and its increment) or not at all, and never overwrites or double counts it.
+ * <p>
+ * Scores are stored as of the time they were written. {@link #decayScores()}
+ * re-scores every skill against the clock each night, before readiness is
+ * recomputed, so practice that stopped keeps losing weight.
+ */
+@Service
+public class SkillScoringService {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillScoringService.class);
+
+    private static final String TAGGED_ACTIVITY =
+            "SELECT LOWER(TRIM(skill_tag)), xp_earned, timestamp FROM activity_logs " +
+            "WHERE user_id = ? AND TRIM(skill_tag) <> '' ORDER BY timestamp";
+
+    // Locks the user and bumps the profile version in the transaction that rewrites the scores
+    private static final String LOCK_USER = "UPDATE users SET profile_version = profile_version + 1 WHERE id = ?";
+
+    private static final String SKILL_EVIDENCE_RANGE =
+            "SELECT id, user_id, evidence, evidence_at, score FROM user_skills " +
+            "WHERE user_id BETWEEN ? AND ? AND evidence_at IS NOT NULL ORDER BY user_id";
+
+    // Skipped when activity or a recompute has changed the evidence since it was read; that write scored it
+    private static final String RESCORE =
+            "UPDATE user_skills SET score = ? WHERE id = ? AND evidence = ? AND evidence_at = ?";
+
+    private final SkillScoringModel model;
+    private final UserSkillRepository userSkillRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProfileVersions profileVersions;
+    private final int threads;
+    private final long chunkSize;
+
+    public SkillScoringService(SkillScoringModel model, UserSkillRepository userSkillRepository,
+                               UserRepository userRepository, JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                               ProfileVersions profileVersions,
+                               @Value("${skills.scoring.recompute-threads:4}") int threads,
+                               @Value("${skills.scoring.recompute-chunk-size:500}") long chunkSize) {
+        this.model = model;
+        this.userSkillRepository = userSkillRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.profileVersions = profileVersions;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Applies a batch of activity inside its write transaction, where the
+     * batch's XP update already holds each user's row lock and has bumped
+     * their profile versions. A failure here rolls the batch back so it is
+     * retried as a whole.
+     */
+    @EventListener
+    public void onActivityRecorded(ActivityRecordedEvent recorded) {
+        List<ActivityEvent> tagged = recorded.events().stream()
+                .filter(e -> e.normalizedSkillTag() != null)
+                .toList();
+        if (tagged.isEmpty()) return;
+
+        apply(tagged);
+    }
+
+    private void apply(List<ActivityEvent> tagged) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        tagged.forEach(e -> userIds.add(e.userId()));
+
+        Map<SkillKey, UserSkill> skills = index(userSkillRepository.findByUserIdIn(userIds));
+        // Tracked by key, entity hashCode walks the user graph
+        Set<SkillKey> changed = new LinkedHashSet<>();
+        for (ActivityEvent e : tagged) {
+            SkillKey key = new SkillKey(e.userId(), e.normalizedSkillTag());
+            UserSkill skill = skills.computeIfAbsent(key, k -> newSkill(k.userId(), k.skillTag()));
+            SkillScoringModel.Evidence evidence = model.accumulate(evidenceOf(skill), e.timestamp(), e.xpEarned());
+            applyEvidence(skill, evidence);
+            changed.add(key);
+        }
+        userSkillRepository.saveAll(changed.stream().map(skills::get).toList());
+        userIds.forEach(id -> {
+            eventPublisher.publishEvent(new UserDataChangedEvent(id));
+            eventPublisher.publishEvent(new SkillProfileChangedEvent(id));
+        });
+    }
+
+    @Order(2)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recomputeIfStale() {
+        Boolean stale = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM user_skills WHERE score_version IS NULL OR score_version <> ?)",
+                Boolean.class, model.version());
+        if (Boolean.TRUE.equals(stale)) {
+            log.info("Skill scores predate scoring version {}, recomputing", model.version());
+            recomputeAll();
+        }
+    }
+
+    /** Recomputes every user's skill scores and returns the number of id ranges processed. */
+    public int recomputeAll() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        if (maxId == null) return 0;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long from = 1; from <= maxId; from += chunkSize) {
+                long lo = from, hi = from + chunkSize - 1;
+                chunks.add(pool.submit(() -> recomputeRange(lo, hi)));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+            log.info("Recomputed skill scores for user ids 1..{} in {} chunks", maxId, chunks.size());
+            eventPublisher.publishEvent(new SkillScoresRecomputedEvent());
+            return chunks.size();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Skill score recompute interrupted", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Skill score recompute failed", e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Re-scores skills whose evidence has decayed into a lower score and returns how many changed. */
+    @Scheduled(cron = "${skills.scoring.decay-cron:0 0 3 * * *}")
+    public int decayScores() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        if (maxId == null) return 0;
+
+        LocalDateTime now = LocalDateTime.now();
+        int rescored = 0;
+        for (long from = 1; from <= maxId; from += chunkSize) {
+            rescored += decayRange(from, from + chunkSize - 1, now);
+        }
+        log.info("Re-scored {} skills for decay", rescored);
+        return rescored;
+    }
+
+    private int decayRange(long fromUserId, long toUserId, LocalDateTime now) {
+        Map<Long, List<Object[]>> changed = new TreeMap<>();
+        jdbcTemplate.query(SKILL_EVIDENCE_RANGE, rs -> {
+            double evidence = rs.getDouble(3);
+            Timestamp at = rs.getTimestamp(4);
+            int score = model.scoreAt(new SkillScoringModel.Evidence(evidence, at.toLocalDateTime()), now);
+            if (score != rs.getInt(5)) {
+                changed.computeIfAbsent(rs.getLong(2), id -> new ArrayList<>())
+                        .add(new Object[] { score, rs.getLong(1), evidence, at });
+            }
+        }, fromUserId, toUserId);
+
+        // Only users whose scores moved, one short transaction each, locking the user first as activity writes do
+        int rescored = 0;
+        for (Map.Entry<Long, List<Object[]>> user : changed.entrySet()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                profileVersions.bump(user.getKey());
+                jdbcTemplate.batchUpdate(RESCORE, user.getValue());
+            });
+            rescored += user.getValue().size();
+        }
+        return rescored;
+    }
+
+    public void recomputeUser(Long userId) {
+        recomputeRange(userId, userId);
+        eventPublisher.publishEvent(new SkillProfileChangedEvent(userId));
+    }
+
+    // One short transaction per user, so activity writes wait on a single user's lock, never a whole chunk
+    private void recomputeRange(long fromUserId, long toUserId) {
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id BETWEEN ? AND ? ORDER BY id", Long.class, fromUserId, toUserId);
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> recompute(userId));
+        }
+    }
+
+    private void recompute(Long userId) {
+        jdbcTemplate.update(LOCK_USER, userId);
+
+        Map<SkillKey, SkillScoringModel.Evidence> evidence = new HashMap<>();
+        jdbcTemplate.query(TAGGED_ACTIVITY, rs -> {
+            SkillKey key = new SkillKey(userId, rs.getString(1));
+            SkillScoringModel.Evidence current = evidence.getOrDefault(key, SkillScoringModel.Evidence.NONE);
+            evidence.put(key, model.accumulate(current, rs.getTimestamp(3).toLocalDateTime(), rs.getInt(2)));
+        }, userId);
+
+        List<UserSkill> skills = new ArrayList<>(userSkillRepository.findByUserIdBetween(userId, userId));
+        Set<SkillKey> existing = index(skills).keySet();
+        evidence.keySet().stream()
+                .filter(k -> !existing.contains(k))
+                .forEach(k -> skills.add(newSkill(k.userId(), k.skillTag())));
+        for (UserSkill skill : skills) {
+            SkillKey key = new SkillKey(skill.getUser().getId(), normalize(skill.getSkillName()));
+            applyEvidence(skill, evidence.getOrDefault(key, SkillScoringModel.Evidence.NONE));
+        }
+        userSkillRepository.saveAll(skills);
+    }
+
+    private void applyEvidence(UserSkill skill, SkillScoringModel.Evidence evidence) {
+        skill.setEvidence(evidence.value());
+        skill.setEvidenceAt(evidence.at());
+        skill.setScore(model.scoreAt(evidence, LocalDateTime.now()));
+        skill.setScoreVersion(model.version());
+    }
+
+    private static SkillScoringModel.Evidence evidenceOf(UserSkill skill) {
+        return new SkillScoringModel.Evidence(skill.getEvidence() != null ? skill.getEvidence() : 0, skill.getEvidenceAt());
+    }
+
+    private UserSkill newSkill(Long userId, String skillTag) {
+        UserSkill s = new UserSkill();
+        s.setUser(userRepository.getReferenceById(userId));
+        s.setSkillName(skillTag.substring(0, 1).toUpperCase(Locale.ROOT) + skillTag.substring(1));
+        s.setCategory("General");
+        return s;
+    }
+
+    private static Map<SkillKey, UserSkill> index(List<UserSkill> skills) {
+        Map<SkillKey, UserSkill> byKey = new HashMap<>();
+        for (UserSkill s : skills) {
+            // Duplicates by case only (pre-dating this index) keep the first row
+            byKey.putIfAbsent(new SkillKey(s.getUser().getId(), normalize(s.getSkillName())), s);
+        }
+        return byKey;
+    }
+
+    static String normalize(String skillName) {
+        return skillName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record SkillKey(Long userId, String skillTag) {}
+}
@@ -0,0 +1,73 @@
+package com.skillpath.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Streaks count consecutive days with at least one logged activity. They are
+ * advanced by {@link ActivityWriter} as activities arrive; this service resets
+ * the streaks that broke overnight with set-based updates over user id ranges,
+ * so no user row is touched on login.
+ */
+@Service
+public class StreakService {
+
+    private static final Logger log = LoggerFactory.getLogger(StreakService.class);
+
+    private static final String RESET_RANGE =
+            "UPDATE users SET streak = 0, profile_version = profile_version + 1 WHERE id BETWEEN ? AND ? AND streak <> 0 " +
+            "AND (last_activity_date IS NULL OR last_activity_date < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProfileViewCache profileViewCache;
+    private final long chunkSize;
+
+    public StreakService(JdbcTemplate jdbcTemplate, ProfileViewCache profileViewCache,
+                         @Value("${streak.reset-chunk-size:5000}") long chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.profileViewCache = profileViewCache;
+        this.chunkSize = chunkSize;
+    }
+
+    /** Seeds last_activity_date for users whose streak predates activity-driven streaks. */
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLastActivityDates() {
+        int updated = jdbcTemplate.update(
+                "UPDATE users u SET last_activity_date = " +
+                "(SELECT MAX(r.activity_date) FROM daily_activity_rollups r WHERE r.user_id = u.id) " +
+                "WHERE u.last_activity_date IS NULL " +
+                "AND EXISTS (SELECT 1 FROM daily_activity_rollups r WHERE r.user_id = u.id)");
+        if (updated > 0) {
+            log.info("Seeded last activity date for {} users", updated);
+        }
+    }
+
+    /** A streak survives as long as the last activity was today or yesterday. */
+    @Scheduled(cron = "${streak.reset-cron:0 5 0 * * *}")
+    public int resetBrokenStreaks() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        if (maxId == null) return 0;
+
+        Date yesterday = Date.valueOf(LocalDate.now().minusDays(1));
+        int reset = 0;
+        for (long from = 1; from <= maxId; from += chunkSize) {
+            reset += jdbcTemplate.update(RESET_RANGE, from, from + chunkSize - 1, yesterday);
+        }
+        if (reset > 0) {
+            profileViewCache.invalidateAll();
+        }
+        log.info("Reset {} broken streaks", reset);
+        return reset;
+    }
+}
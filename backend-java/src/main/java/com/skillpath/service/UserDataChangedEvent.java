@@ -0,0 +1,7 @@
+package com.skillpath.service;
+
+/**
+ * Published whenever something shown on a user's profile changes (activity,
+ * profile fields, skills, badges). Read models listen for it after commit.
+ */
+public record UserDataChangedEvent(Long userId) {}